@@ -0,0 +1,35 @@
+package factchecker.AssessService;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass assessment with the separate score and opinion calls.
+ *
+ * Run with: gradle jmh -PjmhArgs="AssessorBenchmark -prof gc"
+ * The gc profiler reports the allocation rate per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssessorBenchmark {
+    private final Assessor assessor = DefaultAssessor.create();
+
+    private final String sentence = "Jaguars are the only big cats that don't roar.";
+
+    @Benchmark
+    public void separateCalls(Blackhole blackhole) {
+        blackhole.consume(assessor.getScore(sentence));
+        blackhole.consume(assessor.getOpinion(sentence));
+    }
+
+    @Benchmark
+    public Assessment singlePass() {
+        return assessor.assess(sentence);
+    }
+}
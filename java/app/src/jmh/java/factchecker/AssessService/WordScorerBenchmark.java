@@ -0,0 +1,49 @@
+package factchecker.AssessService;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the scanning WordScorer with the previous regex-based implementation.
+ *
+ * Run with: gradle jmh -PjmhArgs="WordScorerBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordScorerBenchmark {
+    @Param({"short", "long"})
+    public String length;
+
+    private final WordScorer scorer = new WordScorer();
+
+    private String sentence;
+
+    @Setup
+    public void setUp() {
+        String fact = "Jaguars are the only big cats that don't roar. ";
+
+        sentence = length.equals("short") ? fact : fact.repeat(50);
+    }
+
+    @Benchmark
+    public int scanner() {
+        return scorer.score(sentence);
+    }
+
+    @Benchmark
+    public int regex() {
+        /*
+         * This is the previous implementation of the WordScorer.
+         */
+        int count = Math.toIntExact(Pattern.compile("cats?").matcher(sentence).results().count());
+        int score = (count == 0) ? 0 : count + 1;
+
+        return Math.min(score, WordScorer.MAX_SCORE);
+    }
+}
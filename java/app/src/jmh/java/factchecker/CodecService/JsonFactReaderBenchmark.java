@@ -0,0 +1,41 @@
+package factchecker.CodecService;
+
+import factchecker.fixtures.StubServer;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming extraction of the fact field with building a JSONObject.
+ *
+ * Run with: gradle jmh -PjmhArgs="JsonFactReaderBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFactReaderBenchmark {
+    private final String json = StubServer.FACT;
+
+    private final byte[] bytes = StubServer.FACT.getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public String jsonObject() {
+        return new JSONObject(json).getString("fact");
+    }
+
+    @Benchmark
+    public String readerFromString() {
+        return JsonFactReader.read(json);
+    }
+
+    @Benchmark
+    public String readerFromBytes() {
+        return JsonFactReader.read(ByteBuffer.wrap(bytes));
+    }
+}
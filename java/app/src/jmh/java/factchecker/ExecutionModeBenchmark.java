@@ -0,0 +1,62 @@
+package factchecker;
+
+import factchecker.AssessService.DefaultAssessor;
+import factchecker.fixtures.LatencyFetcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs 10k concurrent logical requests against a local stub with a 20ms latency, using
+ * a virtual-thread-per-task executor and a fixed pool of platform threads.
+ *
+ * Run with: gradle jmh -PjmhArgs="ExecutionModeBenchmark"
+ * On the runtimes without virtual threads, FactExecutors falls back to a fixed pool of
+ * DEFAULT_FALLBACK_THREADS platform threads, which says nothing about virtual threads,
+ * so the virtual mode is skipped (its setup fails with a message, and the platform mode still runs).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+    private static final int REQUESTS = 10_000;
+
+    @Param({"virtual", "platform"})
+    public String mode;
+
+    private ExecutorService executor;
+
+    private FactChecker checker;
+
+    @Setup
+    public void setUp() {
+        if (mode.equals("virtual") && !FactExecutors.isVirtualThreadSupported()) {
+            throw new IllegalStateException("The runtime has no virtual threads, the virtual mode is skipped.");
+        }
+
+        executor = mode.equals("virtual")
+            ? FactExecutors.virtualThreadPerTask()
+            : Executors.newFixedThreadPool(200);
+
+        checker = new FactChecker(new LatencyFetcher(20), DefaultAssessor.create());
+        checker.setExecutor(executor);
+        checker.setConcurrency(REQUESTS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public List<FactResult> randomFacts() {
+        return checker.randomFacts(REQUESTS);
+    }
+}
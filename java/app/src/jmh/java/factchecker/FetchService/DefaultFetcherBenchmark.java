@@ -0,0 +1,61 @@
+package factchecker.FetchService;
+
+import factchecker.fixtures.StubServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the shared client of the DefaultFetcher with a client created per request.
+ *
+ * Run with: gradle jmh -PjmhArgs="DefaultFetcherBenchmark -t 4"
+ * The throughput mode reports requests per second, the sample mode reports the p99 latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultFetcherBenchmark {
+    private StubServer server;
+
+    private Fetcher fetcher;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubServer();
+        fetcher = new DefaultFetcher();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public String sharedClient() throws IOException, InterruptedException {
+        return fetcher.fetch(server.url());
+    }
+
+    @Benchmark
+    public String clientPerRequest() throws IOException, InterruptedException {
+        /*
+         * This is the previous behavior of the DefaultFetcher.
+         */
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.url()))
+            .header("accept", "application/json")
+            .timeout(Duration.ofSeconds(3))
+            .build();
+
+        return HttpClient.newHttpClient()
+            .send(request, HttpResponse.BodyHandlers.ofString())
+            .body();
+    }
+}
@@ -0,0 +1,65 @@
+package factchecker.LoggerService;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of a disabled log call built eagerly with the lazy ones (a level guard,
+ * a message supplier, and format arguments).
+ *
+ * Run with: gradle jmh -PjmhArgs="LoggerBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+    private Path file;
+
+    private AsyncFileLogger logger;
+
+    private Exception error = new IllegalStateException("Request error");
+
+    private int attempt = 3;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("logger-benchmark", ".log");
+        logger = new AsyncFileLogger(file);
+        logger.setLevel(Logger.Level.ERROR);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        logger.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void eager() {
+        logger.debug(String.format("Cannot fetch a fact (attempt %s): %s", attempt, error.getMessage()));
+    }
+
+    @Benchmark
+    public void guard() {
+        if (logger.isEnabled(Logger.Level.DEBUG)) {
+            logger.debug(String.format("Cannot fetch a fact (attempt %s): %s", attempt, error.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public void supplier() {
+        logger.debug(() -> String.format("Cannot fetch a fact (attempt %s): %s", attempt, error.getMessage()));
+    }
+
+    @Benchmark
+    public void parameterized() {
+        logger.debug("Cannot fetch a fact (attempt %s): %s", attempt, error);
+    }
+}
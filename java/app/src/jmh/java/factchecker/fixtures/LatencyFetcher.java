@@ -0,0 +1,21 @@
+package factchecker.fixtures;
+
+import factchecker.FetchService.Fetcher;
+
+/**
+ * A blocking Fetcher stub which simulates a network round trip with a fixed latency.
+ */
+public class LatencyFetcher implements Fetcher {
+    private final long latencyMillis;
+
+    public LatencyFetcher(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public String fetch(String url) throws InterruptedException {
+        Thread.sleep(this.latencyMillis);
+
+        return StubServer.FACT;
+    }
+}
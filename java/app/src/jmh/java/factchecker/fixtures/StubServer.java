@@ -0,0 +1,57 @@
+package factchecker.fixtures;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local HTTP server which answers every request with the same cat fact.
+ */
+public class StubServer implements AutoCloseable {
+    /*
+     * The JSON schema is equal to the cat facts public API.
+     * For more information @see https://catfact.ninja/fact
+     */
+    public static final String FACT = "{\"fact\":\"A simple fact without any target word.\",\"length\":38}";
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    public StubServer() throws IOException {
+        /*
+         * Without TCP_NODELAY the kept-alive connections wait for a delayed ACK on every response.
+         */
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        byte[] body = FACT.getBytes(StandardCharsets.UTF_8);
+
+        this.executor = Executors.newFixedThreadPool(8);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/fact", exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    public String url() {
+        return String.format("http://127.0.0.1:%d/fact", this.server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+}
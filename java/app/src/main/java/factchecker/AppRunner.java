@@ -4,15 +4,69 @@ import factchecker.AssessService.Assessor;
 import factchecker.AssessService.DefaultAssessor;
 import factchecker.FetchService.DefaultFetcher;
 import factchecker.FetchService.Fetcher;
+import factchecker.MetricsService.Metrics;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
 
 public class AppRunner {
-    public static void main(String[] args) {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_SERVER_THREADS = 4;
+
+    /**
+     * Print one fact, or run the embedded server with the "serve [port] [threads]" arguments,
+     * or assess a file of facts with the "assess <input> <output> [threads]" arguments.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, JMException {
+        if (args.length > 0 && args[0].equals("assess")) {
+            assess(args);
+            return;
+        }
+
         Fetcher fetcher = new DefaultFetcher();
         Assessor assessor = DefaultAssessor.create();
 
         FactChecker factChecker = new FactChecker(fetcher, assessor);
+
+        if (args.length > 0 && args[0].equals("serve")) {
+            serve(factChecker, args);
+            return;
+        }
+
         String fact = factChecker.fetchFact();
 
         System.out.println(fact);
     }
+
+    private static void serve(FactChecker factChecker, String[] args) throws IOException, JMException {
+        int port = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_SERVER_THREADS;
+
+        FactServer server = new FactServer(
+            factChecker,
+            new InetSocketAddress(port),
+            Executors.newFixedThreadPool(threads)
+        );
+        server.start();
+        Metrics.global().registerMBean(Metrics.DEFAULT_OBJECT_NAME);
+
+        System.out.printf("Serving facts on port %d.%n", server.getAddress().getPort());
+    }
+
+    private static void assess(String[] args) throws IOException, InterruptedException {
+        if (args.length < 3) {
+            System.err.println("Usage: assess <input> <output> [threads]");
+            return;
+        }
+
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        BatchAssessor batchAssessor = new BatchAssessor(DefaultAssessor.create(), threads);
+        long lines = batchAssessor.assess(Path.of(args[1]), Path.of(args[2]));
+
+        System.out.printf("Assessed %d lines.%n", lines);
+    }
 }
@@ -0,0 +1,53 @@
+package factchecker;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only view of ASCII bytes in a buffer as a sequence of characters, which lets the scorers
+ * read a line without decoding it into a String.
+ */
+class AsciiSequence implements CharSequence {
+    private final ByteBuffer buffer;
+
+    private final int offset;
+
+    private final int length;
+
+    AsciiSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return (char) this.buffer.get(this.offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException(String.format("start %d, end %d, length %d", start, end, this.length));
+        }
+
+        return new AsciiSequence(this.buffer, this.offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[this.length];
+        this.buffer.get(this.offset, bytes);
+
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
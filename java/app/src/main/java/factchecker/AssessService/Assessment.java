@@ -0,0 +1,23 @@
+package factchecker.AssessService;
+
+/**
+ * An immutable result of a sentence assessment, which holds the score and the opinion together.
+ */
+public final class Assessment {
+    private final int score;
+
+    private final String opinion;
+
+    public Assessment(int score, String opinion) {
+        this.score = score;
+        this.opinion = opinion;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public String getOpinion() {
+        return this.opinion;
+    }
+}
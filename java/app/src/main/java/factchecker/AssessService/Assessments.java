@@ -0,0 +1,36 @@
+package factchecker.AssessService;
+
+/**
+ * An immutable result of a bulk assessment. The scores and the opinions are kept in primitive arrays,
+ * an opinion is stored as its index (ordinal) in the Assessor.DEFAULT_OPINIONS.
+ */
+public final class Assessments {
+    private final int[] scores;
+
+    private final byte[] opinions;
+
+    Assessments(int[] scores, byte[] opinions) {
+        this.scores = scores;
+        this.opinions = opinions;
+    }
+
+    public int size() {
+        return this.scores.length;
+    }
+
+    public int getScore(int index) {
+        return this.scores[index];
+    }
+
+    public int getOpinionOrdinal(int index) {
+        return this.opinions[index];
+    }
+
+    public String getOpinion(int index) {
+        return Assessor.DEFAULT_OPINIONS[this.opinions[index]];
+    }
+
+    public Assessment get(int index) {
+        return new Assessment(getScore(index), getOpinion(index));
+    }
+}
@@ -1,8 +1,8 @@
 package factchecker.AssessService;
 
 public interface Assessor {
-    public static final Integer DEFAULT_SCORE = 0;
-    public static final Integer MAX_SCORE = 5;
+    public static final int DEFAULT_SCORE = 0;
+    public static final int MAX_SCORE = 5;
 
     public static final String[] DEFAULT_OPINIONS = {
         "unassessable",
@@ -21,4 +21,11 @@ public interface Assessor {
      * Form an opinion about a sentence.
      */
     abstract String getOpinion(String sentence);
+
+    /**
+     * Calculate a score and form an opinion about a sentence at once.
+     */
+    default Assessment assess(String sentence) {
+        return new Assessment(getScore(sentence), getOpinion(sentence));
+    }
 }
@@ -0,0 +1,93 @@
+package factchecker.AssessService;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An Assessor decorator which remembers the score and the opinion of recently assessed sentences.
+ *
+ * Both values are calculated together on the first request, so the following request for the other
+ * value is served from memory. When the cache exceeds its size, the oldest sentences are evicted first.
+ */
+public class CachingAssessor implements Assessor {
+    public static final int DEFAULT_SIZE = 1024;
+
+    private final Assessor assessor;
+
+    private final int size;
+
+    private final ConcurrentHashMap<String, Assessment> entries = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingAssessor(Assessor assessor) {
+        this(assessor, DEFAULT_SIZE);
+    }
+
+    public CachingAssessor(Assessor assessor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The size should be a positive number.");
+        }
+
+        this.assessor = assessor;
+        this.size = size;
+    }
+
+    @Override
+    public Integer getScore(String sentence) {
+        return assess(sentence).getScore();
+    }
+
+    @Override
+    public String getOpinion(String sentence) {
+        return assess(sentence).getOpinion();
+    }
+
+    @Override
+    public Assessment assess(String sentence) {
+        Assessment assessment = this.entries.get(sentence);
+
+        if (assessment != null) {
+            this.hits.increment();
+            return assessment;
+        }
+
+        this.misses.increment();
+        assessment = this.assessor.assess(sentence);
+
+        if (this.entries.putIfAbsent(sentence, assessment) == null) {
+            this.insertionOrder.offer(sentence);
+            evictOverflow();
+        }
+
+        return assessment;
+    }
+
+    private void evictOverflow() {
+        String oldest;
+
+        while (this.entries.size() > this.size && (oldest = this.insertionOrder.poll()) != null) {
+            this.entries.remove(oldest);
+            this.evictions.increment();
+        }
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+}
@@ -1,13 +1,30 @@
 package factchecker.AssessService;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class DefaultAssessor implements Assessor {
+    public static final int STREAM_CHUNK_SIZE = 4096;
+
     private ArrayList<Scorer> decisiveScorers = new ArrayList<>();
 
     private ArrayList<Scorer> otherScorers = new ArrayList<>();
 
+    /*
+     * The executor settings are replaced at once, so a concurrent assessment never sees a mix of them.
+     */
+    private volatile Execution execution;
+
     public DefaultAssessor() {
     }
 
@@ -30,58 +47,182 @@ public class DefaultAssessor implements Assessor {
         otherScorers.add(scorer);
     }
 
+    /**
+     * Run the scorers concurrently on an executor. A scorer which doesn't finish in time, or fails,
+     * is counted with the fallback score, as is a scorer which the executor rejects.
+     * Note that the late scorer keeps running on the executor.
+     * With a null executor, the scorers run one after another on the calling thread (the default).
+     * With a null timeout, the scorers are awaited without a time limit.
+     */
+    public void setExecutor(Executor executor, Duration timeout, int fallbackScore) {
+        this.execution = (executor == null) ? null : new Execution(executor, timeout, fallbackScore);
+    }
+
     @Override
     public Integer getScore(String sentence) {
-        return calculateEntireScore(sentence);
+        return assess(sentence).getScore();
+    }
+
+    @Override
+    public String getOpinion(String sentence) {
+        return assess(sentence).getOpinion();
+    }
+
+    @Override
+    public Assessment assess(String sentence) {
+        return assess((CharSequence) sentence);
     }
 
-    private Integer calculateEntireScore(String sentence) {
-        ArrayList<Scorer> registeredScorers = combineScorers();
+    /**
+     * Assess a sequence of characters, which doesn't have to be a String (e.g. a view over a buffer).
+     */
+    public Assessment assess(CharSequence sentence) {
+        /*
+         * Each of the registered scorers runs exactly once. The entire score and the opinion
+         * are derived from the sums of the decisive and the other scorers.
+         */
+        int decisiveScore;
+        int otherScore;
+        Execution execution = this.execution;
+
+        if (execution == null) {
+            decisiveScore = sumScores(sentence, decisiveScorers);
+            otherScore = sumScores(sentence, otherScorers);
+        } else {
+            List<CompletableFuture<Integer>> decisiveScores = submitScores(sentence, decisiveScorers, execution);
+            List<CompletableFuture<Integer>> otherScores = submitScores(sentence, otherScorers, execution);
 
-        return calculateScore(sentence, registeredScorers);
+            decisiveScore = joinScores(decisiveScores);
+            otherScore = joinScores(otherScores);
+        }
+
+        return new Assessment(
+            retrieveScore(decisiveScore, otherScore),
+            DEFAULT_OPINIONS[retrieveOpinion(decisiveScore, otherScore)]
+        );
     }
 
-    private ArrayList<Scorer> combineScorers() {
-        ArrayList<Scorer> registeredScorers = new ArrayList<>();
+    /**
+     * Assess a list of sentences in parallel on the common fork-join pool. The scorers of a sentence
+     * run one after another, the sentences are split across the cores. The results are stored
+     * in primitive arrays instead of separate Assessment objects.
+     * The executor, the timeout and the fallback score of setExecutor are not used here.
+     */
+    public Assessments assessAll(List<String> sentences) {
+        List<String> indexed = (sentences instanceof RandomAccess) ? sentences : new ArrayList<>(sentences);
+        int[] scores = new int[indexed.size()];
+        byte[] opinions = new byte[indexed.size()];
+
+        assessInto(indexed, scores, opinions, 0);
+
+        return new Assessments(scores, opinions);
+    }
+
+    /**
+     * Assess a stream of sentences in parallel. The stream is consumed in chunks of STREAM_CHUNK_SIZE
+     * sentences, so only a chunk of the sentences is held in memory at once, next to the primitive results.
+     */
+    public Assessments assessAll(Stream<String> sentences) {
+        Iterator<String> iterator = sentences.iterator();
+        List<String> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        int[] scores = new int[STREAM_CHUNK_SIZE];
+        byte[] opinions = new byte[STREAM_CHUNK_SIZE];
+        int size = 0;
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+
+            if (chunk.size() < STREAM_CHUNK_SIZE && iterator.hasNext()) {
+                continue;
+            }
 
-        registeredScorers.addAll(decisiveScorers);
-        registeredScorers.addAll(otherScorers);
+            if (size + chunk.size() > scores.length) {
+                int capacity = (int) Math.min((long) scores.length * 2, Integer.MAX_VALUE - 8);
+                scores = Arrays.copyOf(scores, Math.max(capacity, size + chunk.size()));
+                opinions = Arrays.copyOf(opinions, scores.length);
+            }
 
-        return registeredScorers;
+            assessInto(chunk, scores, opinions, size);
+            size += chunk.size();
+            chunk.clear();
+        }
+
+        return new Assessments(Arrays.copyOf(scores, size), Arrays.copyOf(opinions, size));
+    }
+
+    private void assessInto(List<String> sentences, int[] scores, byte[] opinions, int offset) {
+        IntStream.range(0, sentences.size()).parallel().forEach(index -> {
+            String sentence = sentences.get(index);
+            int decisiveScore = sumScores(sentence, decisiveScorers);
+            int otherScore = sumScores(sentence, otherScorers);
+
+            scores[offset + index] = retrieveScore(decisiveScore, otherScore);
+            opinions[offset + index] = (byte) retrieveOpinion(decisiveScore, otherScore);
+        });
     }
 
-    private Integer calculateScore(String sentence, ArrayList<Scorer> scorers) {
-        Integer score = DEFAULT_SCORE;
+    private int sumScores(CharSequence sentence, ArrayList<Scorer> scorers) {
+        int score = 0;
 
         for (Scorer scorer : scorers) {
-            score += scorer.calculateScore(sentence);
+            score += scorer.score(sentence);
         }
 
-        return (score > MAX_SCORE) ? MAX_SCORE : score;
+        return score;
     }
 
-    @Override
-    public String getOpinion(String sentence) {
-        return calculateOpinion(sentence);
+    private List<CompletableFuture<Integer>> submitScores(
+        CharSequence sentence,
+        ArrayList<Scorer> scorers,
+        Execution execution
+    ) {
+        List<CompletableFuture<Integer>> scores = new ArrayList<>(scorers.size());
+
+        for (Scorer scorer : scorers) {
+            CompletableFuture<Integer> score;
+
+            try {
+                score = CompletableFuture.supplyAsync(() -> scorer.score(sentence), execution.executor);
+            } catch (RejectedExecutionException e) {
+                scores.add(CompletableFuture.completedFuture(execution.fallbackScore));
+                continue;
+            }
+
+            if (execution.timeout != null) {
+                score = score.completeOnTimeout(execution.fallbackScore, execution.timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+
+            scores.add(score.exceptionally(e -> execution.fallbackScore));
+        }
+
+        return scores;
     }
 
-    private String calculateOpinion(String sentence) {
-        Integer significantScore = calculateDecisiveScore(sentence);
-        Integer insignificantScore = calculateInsignificantScore(sentence);
+    private int joinScores(List<CompletableFuture<Integer>> scores) {
+        int score = 0;
 
-        return retrieveOpinion(significantScore, insignificantScore);
+        for (CompletableFuture<Integer> future : scores) {
+            score += future.join();
+        }
+
+        return score;
     }
 
-    private Integer calculateDecisiveScore(String sentence) {
-        return calculateScore(sentence, decisiveScorers);
+    private int limitScore(int score) {
+        return Math.min(score, MAX_SCORE);
     }
 
-    private Integer calculateInsignificantScore(String sentence) {
-        return calculateScore(sentence, otherScorers);
+    private int retrieveScore(int decisiveScore, int otherScore) {
+        return limitScore(DEFAULT_SCORE + decisiveScore + otherScore);
     }
 
-    private String retrieveOpinion(Integer significantScore, Integer insignificantScore) {
-        Integer significanceThreshold = 2;
+    /**
+     * Return the index of an opinion in the DEFAULT_OPINIONS.
+     */
+    private int retrieveOpinion(int decisiveScore, int otherScore) {
+        int significantScore = limitScore(DEFAULT_SCORE + decisiveScore);
+        int insignificantScore = limitScore(DEFAULT_SCORE + otherScore);
+        int significanceThreshold = 2;
 
         if (significantScore >= significanceThreshold) {
             return retrieveOpinionFromSignificantScore(significantScore);
@@ -90,25 +231,39 @@ public class DefaultAssessor implements Assessor {
         return retrieveOpinionFromInsignificantScore(significantScore + insignificantScore);
     }
 
-    private String retrieveOpinionFromSignificantScore(Integer score) {
+    private int retrieveOpinionFromSignificantScore(int score) {
         int numberOfOptions = DEFAULT_OPINIONS.length;
 
         if (score <= 0) {
-            return DEFAULT_OPINIONS[0];
+            return 0;
         }
 
         if (score >= numberOfOptions) {
-            return DEFAULT_OPINIONS[numberOfOptions];
+            return numberOfOptions - 1;
         }
 
-        return DEFAULT_OPINIONS[score];
+        return score;
     }
 
-    private String retrieveOpinionFromInsignificantScore(Integer score) {
+    private int retrieveOpinionFromInsignificantScore(int score) {
         if (score >= 1) {
-            return DEFAULT_OPINIONS[1];
+            return 1;
         }
 
-        return DEFAULT_OPINIONS[0];
+        return 0;
+    }
+
+    private static final class Execution {
+        private final Executor executor;
+
+        private final Duration timeout;
+
+        private final int fallbackScore;
+
+        private Execution(Executor executor, Duration timeout, int fallbackScore) {
+            this.executor = executor;
+            this.timeout = timeout;
+            this.fallbackScore = fallbackScore;
+        }
     }
 }
@@ -0,0 +1,110 @@
+package factchecker.AssessService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A scorer which sums up the weights of dictionary terms found in a sentence. All of the terms
+ * are found in one pass over the sentence, so the number of terms doesn't affect the scoring time.
+ *
+ * A dictionary is a text with one term per line, optionally followed by a whitespace and an integer weight
+ * (1 by default). The blank lines and the lines starting with # are ignored.
+ */
+public class DictionaryScorer implements Scorer {
+    public static final int DEFAULT_WEIGHT = 1;
+
+    private final TermAutomaton automaton;
+
+    private final int maxScore;
+
+    public DictionaryScorer(Map<String, Integer> terms) {
+        this(terms, true, true, WordScorer.MAX_SCORE);
+    }
+
+    public DictionaryScorer(Map<String, Integer> terms, boolean caseFolding, boolean wordBoundaries, int maxScore) {
+        this.automaton = new TermAutomaton(terms, caseFolding, wordBoundaries);
+        this.maxScore = maxScore;
+    }
+
+    public static DictionaryScorer fromFile(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new DictionaryScorer(readTerms(reader));
+        }
+    }
+
+    public static DictionaryScorer fromResource(String name) throws IOException {
+        InputStream stream = DictionaryScorer.class.getResourceAsStream(name);
+
+        if (stream == null) {
+            throw new IOException(String.format("The dictionary resource %s doesn't exist.", name));
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return new DictionaryScorer(readTerms(reader));
+        }
+    }
+
+    public static Map<String, Integer> readTerms(BufferedReader reader) throws IOException {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        String line;
+        int number = 0;
+
+        while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.strip();
+
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            int separator = lastWhitespace(line);
+            String term = line;
+            int weight = DEFAULT_WEIGHT;
+
+            if (separator > 0 && isNumber(line.substring(separator + 1))) {
+                term = line.substring(0, separator).strip();
+                weight = Integer.parseInt(line.substring(separator + 1));
+            }
+
+            if (terms.containsKey(term)) {
+                throw new IllegalArgumentException(String.format("The term %s is duplicated at line %d.", term, number));
+            }
+
+            terms.put(term, weight);
+        }
+
+        return terms;
+    }
+
+    private static int lastWhitespace(String line) {
+        for (int i = line.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isNumber(String value) {
+        return value.matches("-?\\d+");
+    }
+
+    @Override
+    public int score(CharSequence sentence) {
+        int score = this.automaton.score(sentence);
+
+        if (score >= this.maxScore) {
+            return this.maxScore;
+        }
+
+        return score;
+    }
+}
@@ -2,7 +2,7 @@ package factchecker.AssessService;
 
 public class LengthScorer implements Scorer {
     @Override
-    public Integer calculateScore(String sentence) {
+    public int score(CharSequence sentence) {
         int length = findLength(sentence);
 
         if (length > 100) {
@@ -16,7 +16,7 @@ public class LengthScorer implements Scorer {
         return 0;
     }
 
-    private Integer findLength(String sentence) {
+    private int findLength(CharSequence sentence) {
         return sentence.length();
     }
 }
@@ -1,8 +1,24 @@
 package factchecker.AssessService;
 
+import java.util.function.Function;
+
 public interface Scorer {
     /**
      * Score a sentence.
      */
-    Integer calculateScore(String sentence);
+    int score(CharSequence sentence);
+
+    /**
+     * Score a sentence. This is a boxed form of the score method, which is kept for compatibility.
+     */
+    default Integer calculateScore(String sentence) {
+        return score(sentence);
+    }
+
+    /**
+     * Adapt a scorer which implements the boxed form only (e.g. legacy::calculateScore).
+     */
+    static Scorer adapt(Function<String, Integer> scorer) {
+        return sentence -> scorer.apply(sentence.toString());
+    }
 }
@@ -0,0 +1,186 @@
+package factchecker.AssessService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton over a dictionary of weighted terms, which finds all of the terms
+ * in one linear pass over a sentence. The transitions are stored in sorted arrays, so a scan
+ * does not allocate anything.
+ */
+class TermAutomaton {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final boolean caseFolding;
+
+    private final boolean wordBoundaries;
+
+    private final char[][] labels;
+
+    private final int[][] targets;
+
+    private final int[] failures;
+
+    private final int[] outputs;
+
+    private final int[] termLengths;
+
+    private final int[] termWeights;
+
+    TermAutomaton(Map<String, Integer> terms, boolean caseFolding, boolean wordBoundaries) {
+        this.caseFolding = caseFolding;
+        this.wordBoundaries = wordBoundaries;
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<int[]> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new int[]{0, 0});
+
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            addTerm(trie, ends, term.getKey(), term.getValue());
+        }
+
+        int size = trie.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        this.termLengths = new int[size];
+        this.termWeights = new int[size];
+
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> transitions = trie.get(node);
+            this.labels[node] = new char[transitions.size()];
+            this.targets[node] = new int[transitions.size()];
+
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                this.labels[node][i] = transition.getKey();
+                this.targets[node][i] = transition.getValue();
+                i++;
+            }
+
+            this.termLengths[node] = ends.get(node)[0];
+            this.termWeights[node] = ends.get(node)[1];
+        }
+
+        this.failures = new int[size];
+        this.outputs = new int[size];
+        buildLinks();
+    }
+
+    private void addTerm(List<TreeMap<Character, Integer>> trie, List<int[]> ends, String term, int weight) {
+        if (term.isEmpty()) {
+            throw new IllegalArgumentException("A dictionary term cannot be empty.");
+        }
+
+        int node = ROOT;
+
+        for (int i = 0; i < term.length(); i++) {
+            char label = fold(term.charAt(i));
+            Integer next = trie.get(node).get(label);
+
+            if (next == null) {
+                next = trie.size();
+                trie.get(node).put(label, next);
+                trie.add(new TreeMap<>());
+                ends.add(new int[]{0, 0});
+            }
+
+            node = next;
+        }
+
+        /*
+         * The same term might appear twice after folding, then the weights are summed up.
+         */
+        ends.get(node)[0] = term.length();
+        ends.get(node)[1] += weight;
+    }
+
+    private void buildLinks() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        Arrays.fill(this.outputs, NONE);
+
+        for (int child : this.targets[ROOT]) {
+            this.failures[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+
+            for (int i = 0; i < this.labels[node].length; i++) {
+                char label = this.labels[node][i];
+                int child = this.targets[node][i];
+                int failure = this.failures[node];
+
+                while (failure != ROOT && transition(failure, label) == NONE) {
+                    failure = this.failures[failure];
+                }
+
+                int target = transition(failure, label);
+                this.failures[child] = (target == NONE || target == child) ? ROOT : target;
+
+                int fallback = this.failures[child];
+                this.outputs[child] = (this.termLengths[fallback] > 0) ? fallback : this.outputs[fallback];
+
+                queue.add(child);
+            }
+        }
+    }
+
+    private int transition(int node, char label) {
+        int index = Arrays.binarySearch(this.labels[node], label);
+
+        return (index >= 0) ? this.targets[node][index] : NONE;
+    }
+
+    /**
+     * Return the sum of weights of all the terms found in a sentence.
+     */
+    int score(CharSequence sentence) {
+        int score = 0;
+        int state = ROOT;
+
+        for (int position = 0; position < sentence.length(); position++) {
+            char label = fold(sentence.charAt(position));
+            int next;
+
+            while ((next = transition(state, label)) == NONE && state != ROOT) {
+                state = this.failures[state];
+            }
+
+            state = (next == NONE) ? ROOT : next;
+
+            int match = (this.termLengths[state] > 0) ? state : this.outputs[state];
+
+            while (match != NONE) {
+                if (isWholeWord(sentence, position - this.termLengths[match] + 1, position)) {
+                    score += this.termWeights[match];
+                }
+
+                match = this.outputs[match];
+            }
+        }
+
+        return score;
+    }
+
+    private boolean isWholeWord(CharSequence sentence, int start, int end) {
+        if (!this.wordBoundaries) {
+            return true;
+        }
+
+        boolean startsWord = (start == 0) || !Character.isLetterOrDigit(sentence.charAt(start - 1));
+        boolean endsWord = (end == sentence.length() - 1) || !Character.isLetterOrDigit(sentence.charAt(end + 1));
+
+        return startsWord && endsWord;
+    }
+
+    private char fold(char character) {
+        return this.caseFolding ? Character.toLowerCase(character) : character;
+    }
+}
@@ -1,13 +1,13 @@
 package factchecker.AssessService;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class WordScorer implements Scorer {
-    public static final Integer MAX_SCORE = 4;
+    public static final int MAX_SCORE = 4;
+
+    private static final String WORD = "cat";
 
-    public Integer calculateScore(String sentence) {
-        Integer score = scoreWords(sentence);
+    @Override
+    public int score(CharSequence sentence) {
+        int score = scoreWords(sentence);
 
         if (score >= MAX_SCORE) {
             return MAX_SCORE;
@@ -16,12 +16,46 @@ public class WordScorer implements Scorer {
         return score;
     }
 
-    private Integer scoreWords(String sentence) {
-        Pattern pattern = Pattern.compile("cats?");
-        Matcher matcher = pattern.matcher(sentence);
-
-        int count = Math.toIntExact(matcher.results().count());
+    private int scoreWords(CharSequence sentence) {
+        int count = countWords(sentence);
 
         return (count == 0) ? 0 : count + 1;
     }
+
+    private int countWords(CharSequence sentence) {
+        /*
+         * This scan gives the same count as the "cats?" pattern: the optional "s" never
+         * affects the number of matches, because the word cannot overlap with itself.
+         */
+        if (sentence instanceof String) {
+            return countWords((String) sentence);
+        }
+
+        int count = 0;
+        int last = sentence.length() - WORD.length();
+
+        for (int i = 0; i <= last; i++) {
+            if (sentence.charAt(i) == 'c' && sentence.charAt(i + 1) == 'a' && sentence.charAt(i + 2) == 't') {
+                count++;
+                i += WORD.length() - 1;
+            }
+        }
+
+        return count;
+    }
+
+    private int countWords(String sentence) {
+        /*
+         * The String::indexOf is an intrinsic, which is much faster than the char by char scan.
+         */
+        int count = 0;
+        int position = sentence.indexOf(WORD);
+
+        while (position >= 0) {
+            count++;
+            position = sentence.indexOf(WORD, position + WORD.length());
+        }
+
+        return count;
+    }
 }
@@ -0,0 +1,382 @@
+package factchecker;
+
+import factchecker.AssessService.Assessment;
+import factchecker.AssessService.DefaultAssessor;
+import factchecker.CodecService.JsonFactReader;
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An offline tool which assesses a large file of facts without loading it into the heap.
+ *
+ * The input is a newline-delimited file of plain facts or JSON lines of the cat facts API shape
+ * ({"fact": ..., "length": ...}). It is memory-mapped and split into line-aligned chunks, which
+ * are assessed in parallel. The ASCII lines are scored right from the mapped bytes, other lines
+ * are decoded first. Each input line gets an output line "score<TAB>opinion", or "-<TAB>error"
+ * when a JSON line is invalid or doesn't have the fact field.
+ *
+ * At most two chunks per thread are in flight. The results of a chunk are collected in a small buffer,
+ * which spills into a temporary file next to the output when it fills up, so the heap holds only
+ * the buffers of the chunks in flight, however large the output is.
+ */
+public class BatchAssessor {
+    public static final int MIN_CHUNK_SIZE = 1 << 20;
+    public static final int MAX_CHUNK_SIZE = 1 << 24;
+
+    private static final int RESULTS_BUFFER_SIZE = 1 << 16;
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] ERROR = "-\terror".getBytes(StandardCharsets.US_ASCII);
+
+    private final DefaultAssessor assessor;
+
+    private final int threads;
+
+    private final ConcurrentHashMap<String, byte[]> encodedOpinions = new ConcurrentHashMap<>();
+
+    public BatchAssessor(DefaultAssessor assessor, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads should be a positive number.");
+        }
+
+        this.assessor = assessor;
+        this.threads = threads;
+    }
+
+    /**
+     * Assess every line of the input file and write the results to the output file.
+     *
+     * @return the number of assessed lines
+     */
+    public long assess(Path input, Path output) throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+        Path spillDirectory = output.toAbsolutePath().getParent();
+        Queue<Chunk> openChunks = new ConcurrentLinkedQueue<>();
+
+        try (
+            FileChannel source = FileChannel.open(input, StandardOpenOption.READ);
+            FileChannel target = FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        ) {
+            Deque<Future<Chunk>> chunks = new ArrayDeque<>();
+            long lines = 0;
+
+            /*
+             * The chunks are written in the original order, so the output lines match the input lines.
+             * A new chunk is submitted only when there is room in the window, so the finished chunks
+             * don't pile up while waiting for a slow one.
+             */
+            for (long[] bounds : splitIntoChunks(source)) {
+                if (chunks.size() >= this.threads * 2) {
+                    lines += writeChunk(chunks.poll(), target);
+                }
+
+                chunks.add(executor.submit(() -> assessChunk(source, bounds[0], bounds[1], spillDirectory, openChunks)));
+            }
+
+            while (!chunks.isEmpty()) {
+                lines += writeChunk(chunks.poll(), target);
+            }
+
+            return lines;
+        } finally {
+            executor.shutdownNow();
+            awaitTermination(executor);
+
+            /*
+             * The chunks which are left after a failure still hold their temporary files.
+             */
+            for (Chunk chunk : openChunks) {
+                closeChunk(chunk);
+            }
+        }
+    }
+
+    private void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeChunk(Chunk chunk) {
+        try {
+            chunk.close();
+        } catch (IOException e) {
+            // the error which has stopped the assessment is more important
+        }
+    }
+
+    private long writeChunk(Future<Chunk> future, FileChannel target) throws IOException, InterruptedException {
+        try (Chunk chunk = retrieveChunk(future)) {
+            chunk.writeTo(target);
+
+            return chunk.lines;
+        }
+    }
+
+    private Chunk retrieveChunk(Future<Chunk> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private List<long[]> splitIntoChunks(FileChannel source) throws IOException {
+        long size = source.size();
+        long chunkSize = Math.min(Math.max(size / this.threads, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE);
+        List<long[]> chunks = new ArrayList<>();
+        long start = 0;
+
+        while (start < size) {
+            long end = Math.min(start + chunkSize, size);
+
+            if (end < size) {
+                end = findLineEnd(source, end);
+            }
+
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+
+        return chunks;
+    }
+
+    private long findLineEnd(FileChannel source, long position) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(8192);
+        long size = source.size();
+
+        while (position < size) {
+            window.clear();
+            int read = source.read(window, position);
+
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == NEW_LINE) {
+                    return position + i + 1;
+                }
+            }
+
+            position += read;
+        }
+
+        return size;
+    }
+
+    private Chunk assessChunk(
+        FileChannel source,
+        long start,
+        long end,
+        Path spillDirectory,
+        Queue<Chunk> openChunks
+    ) throws IOException {
+        MappedByteBuffer bytes = source.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        Chunk chunk = new Chunk(spillDirectory, openChunks);
+        int lineStart = 0;
+
+        for (int i = 0; i < bytes.limit(); i++) {
+            if (bytes.get(i) == NEW_LINE) {
+                assessLine(bytes, lineStart, i, chunk);
+                lineStart = i + 1;
+            }
+        }
+
+        if (lineStart < bytes.limit()) {
+            assessLine(bytes, lineStart, bytes.limit(), chunk);
+        }
+
+        return chunk;
+    }
+
+    private void assessLine(ByteBuffer bytes, int start, int end, Chunk chunk) throws IOException {
+        if (end > start && bytes.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+
+        if (isJson(bytes, start, end)) {
+            assessJsonLine(bytes.slice(start, end - start), chunk);
+            return;
+        }
+
+        CharSequence sentence = isAscii(bytes, start, end)
+            ? new AsciiSequence(bytes, start, end - start)
+            : decode(bytes, start, end);
+
+        addAssessment(this.assessor.assess(sentence), chunk);
+    }
+
+    private void assessJsonLine(ByteBuffer line, Chunk chunk) throws IOException {
+        try {
+            String fact = JsonFactReader.read(line);
+
+            if (fact == null) {
+                chunk.add(ERROR);
+                return;
+            }
+
+            addAssessment(this.assessor.assess(fact), chunk);
+        } catch (JSONException e) {
+            chunk.add(ERROR);
+        }
+    }
+
+    private void addAssessment(Assessment assessment, Chunk chunk) throws IOException {
+        byte[] opinion = this.encodedOpinions.computeIfAbsent(
+            assessment.getOpinion(),
+            key -> ("\t" + key).getBytes(StandardCharsets.US_ASCII)
+        );
+
+        chunk.add(assessment.getScore(), opinion);
+    }
+
+    private boolean isJson(ByteBuffer bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte current = bytes.get(i);
+
+            if (current != ' ' && current != '\t') {
+                return current == '{';
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isAscii(ByteBuffer bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String decode(ByteBuffer bytes, int start, int end) {
+        byte[] line = new byte[end - start];
+        bytes.get(start, line);
+
+        return new String(line, StandardCharsets.UTF_8);
+    }
+
+    private static class Chunk implements Closeable {
+        private final ByteBuffer results = ByteBuffer.allocate(RESULTS_BUFFER_SIZE);
+
+        private final Path spillDirectory;
+
+        private final Queue<Chunk> openChunks;
+
+        private FileChannel spill;
+
+        private long lines = 0;
+
+        private Chunk(Path spillDirectory, Queue<Chunk> openChunks) {
+            this.spillDirectory = spillDirectory;
+            this.openChunks = openChunks;
+            this.openChunks.add(this);
+        }
+
+        private void add(int score, byte[] opinion) throws IOException {
+            ensureCapacity(opinion.length + 12);
+
+            if (score >= 0 && score <= 9) {
+                this.results.put((byte) ('0' + score));
+            } else {
+                this.results.put(Integer.toString(score).getBytes(StandardCharsets.US_ASCII));
+            }
+
+            this.results.put(opinion).put(NEW_LINE);
+            this.lines++;
+        }
+
+        private void add(byte[] line) throws IOException {
+            ensureCapacity(line.length + 1);
+
+            this.results.put(line).put(NEW_LINE);
+            this.lines++;
+        }
+
+        private void ensureCapacity(int required) throws IOException {
+            if (this.results.remaining() >= required) {
+                return;
+            }
+
+            if (this.spill == null) {
+                Path file = Files.createTempFile(this.spillDirectory, "batch-", ".part");
+                this.spill = FileChannel.open(
+                    file,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE
+                );
+            }
+
+            this.results.flip();
+
+            while (this.results.hasRemaining()) {
+                this.spill.write(this.results);
+            }
+
+            this.results.clear();
+        }
+
+        /**
+         * Write the spilled results and then the buffered ones to the target.
+         */
+        private void writeTo(FileChannel target) throws IOException {
+            if (this.spill != null) {
+                long size = this.spill.size();
+                long position = 0;
+
+                while (position < size) {
+                    position += this.spill.transferTo(position, size - position, target);
+                }
+            }
+
+            this.results.flip();
+
+            while (this.results.hasRemaining()) {
+                target.write(this.results);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.openChunks.remove(this);
+
+            if (this.spill != null) {
+                this.spill.close();
+            }
+        }
+    }
+}
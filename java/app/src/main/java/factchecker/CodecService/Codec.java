@@ -0,0 +1,20 @@
+package factchecker.CodecService;
+
+import java.nio.ByteBuffer;
+
+public interface Codec {
+    /**
+     * Extract a fact from a response body, or return null when the body doesn't have a fact.
+     *
+     * @throws org.json.JSONException
+     */
+    String decode(CharSequence body);
+
+    /**
+     * Extract a fact from the raw bytes of a response body (from the position to the limit),
+     * or return null when the body doesn't have a fact.
+     *
+     * @throws org.json.JSONException
+     */
+    String decode(ByteBuffer body);
+}
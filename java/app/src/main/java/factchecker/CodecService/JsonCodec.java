@@ -0,0 +1,18 @@
+package factchecker.CodecService;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A codec of the cat facts API responses, which reads the fact field of a JSON object.
+ */
+public class JsonCodec implements Codec {
+    @Override
+    public String decode(CharSequence body) {
+        return JsonFactReader.read(body);
+    }
+
+    @Override
+    public String decode(ByteBuffer body) {
+        return JsonFactReader.read(body);
+    }
+}
@@ -0,0 +1,353 @@
+package factchecker.CodecService;
+
+import org.json.JSONException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A lightweight reader which extracts the fact field from a JSON object of the cat facts API without
+ * building a JSONObject. It scans the top-level object and stops as soon as the field is found, skipping
+ * the values of other fields without decoding them. The errors are reported with JSONException the same
+ * way as org.json does, so the callers can handle a malformed JSON in the same manner.
+ */
+public final class JsonFactReader {
+    public static final String FIELD = "fact";
+
+    private final Input input;
+
+    private int position = 0;
+
+    private JsonFactReader(Input input) {
+        this.input = input;
+    }
+
+    /**
+     * Return the fact field of a JSON text, or null when the object doesn't have the field.
+     *
+     * @throws JSONException when the JSON is malformed or the field is not a string
+     */
+    public static String read(CharSequence json) {
+        return new JsonFactReader(new CharInput(json)).readFact();
+    }
+
+    /**
+     * Return the fact field of UTF-8 encoded JSON bytes (from the position to the limit of a buffer),
+     * or null when the object doesn't have the field.
+     *
+     * @throws JSONException when the JSON is malformed or the field is not a string
+     */
+    public static String read(ByteBuffer json) {
+        return new JsonFactReader(new ByteInput(json)).readFact();
+    }
+
+    private String readFact() {
+        skipWhitespace();
+
+        if (peek() != '{') {
+            throw error("A JSONObject text must begin with '{'");
+        }
+
+        this.position++;
+
+        skipWhitespace();
+
+        if (peek() == '}') {
+            return null;
+        }
+
+        while (true) {
+            skipWhitespace();
+
+            if (peek() != '"') {
+                throw error("A JSONObject text must end with '}'");
+            }
+
+            boolean isFact = readKey();
+            skipWhitespace();
+
+            if (next() != ':') {
+                throw error("Expected a ':' after a key");
+            }
+
+            skipWhitespace();
+
+            if (isFact) {
+                if (peek() != '"') {
+                    throw new JSONException(String.format("JSONObject[\"%s\"] is not a string.", FIELD));
+                }
+
+                return readString();
+            }
+
+            skipValue();
+            skipWhitespace();
+
+            int separator = next();
+
+            if (separator == '}') {
+                return null;
+            }
+
+            if (separator != ',') {
+                throw error("Expected a ',' or '}'");
+            }
+        }
+    }
+
+    private boolean readKey() {
+        int start = this.position + 1;
+        int end = skipString();
+
+        /*
+         * An escaped key is decoded, the others are compared in place.
+         */
+        if (this.input.hasEscapes(start, end)) {
+            return FIELD.equals(unescape(this.input.decode(start, end)));
+        }
+
+        if (end - start != FIELD.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < FIELD.length(); i++) {
+            if (this.input.at(start + i) != FIELD.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String readString() {
+        int start = this.position + 1;
+        int end = skipString();
+        String value = this.input.decode(start, end);
+
+        return this.input.hasEscapes(start, end) ? unescape(value) : value;
+    }
+
+    /**
+     * Skip a string starting at the current position and return the index of its closing quote.
+     */
+    private int skipString() {
+        this.position++;
+
+        while (this.position < this.input.length()) {
+            int current = this.input.at(this.position);
+
+            if (current == '\\') {
+                this.position += 2;
+                continue;
+            }
+
+            if (current == '"') {
+                return this.position++;
+            }
+
+            if (current == '\n' || current == '\r') {
+                break;
+            }
+
+            this.position++;
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private void skipValue() {
+        int current = peek();
+
+        if (current == '"') {
+            skipString();
+            return;
+        }
+
+        if (current == '{' || current == '[') {
+            skipNested();
+            return;
+        }
+
+        int start = this.position;
+
+        while (this.position < this.input.length() && !isValueEnd(this.input.at(this.position))) {
+            this.position++;
+        }
+
+        if (this.position == start) {
+            throw error("Missing value");
+        }
+    }
+
+    private void skipNested() {
+        int depth = 0;
+
+        while (this.position < this.input.length()) {
+            int current = this.input.at(this.position);
+
+            if (current == '"') {
+                skipString();
+                continue;
+            }
+
+            if (current == '{' || current == '[') {
+                depth++;
+            } else if (current == '}' || current == ']') {
+                depth--;
+            }
+
+            this.position++;
+
+            if (depth == 0) {
+                return;
+            }
+        }
+
+        throw error("Unterminated nested value");
+    }
+
+    private boolean isValueEnd(int current) {
+        return current == ',' || current == '}' || current == ']' || isWhitespace(current);
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.input.length() && isWhitespace(this.input.at(this.position))) {
+            this.position++;
+        }
+    }
+
+    private boolean isWhitespace(int current) {
+        return current == ' ' || current == '\t' || current == '\n' || current == '\r';
+    }
+
+    private int peek() {
+        return (this.position < this.input.length()) ? this.input.at(this.position) : -1;
+    }
+
+    private int next() {
+        int current = peek();
+        this.position++;
+
+        return current;
+    }
+
+    private JSONException error(String message) {
+        int at = Math.min(this.position, this.input.length());
+
+        return new JSONException(String.format("%s at %d [character %d line 1]", message, at, at + 1));
+    }
+
+    private String unescape(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char current = value.charAt(i);
+
+            if (current != '\\') {
+                result.append(current);
+                continue;
+            }
+
+            char escaped = (++i < value.length()) ? value.charAt(i) : '\0';
+
+            switch (escaped) {
+                case 'b': result.append('\b'); break;
+                case 't': result.append('\t'); break;
+                case 'n': result.append('\n'); break;
+                case 'f': result.append('\f'); break;
+                case 'r': result.append('\r'); break;
+                case '"':
+                case '\\':
+                case '/':
+                    result.append(escaped);
+                    break;
+                case 'u':
+                    try {
+                        result.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                        throw new JSONException("Illegal escape.", e);
+                    }
+                    break;
+                default:
+                    throw new JSONException("Illegal escape.");
+            }
+        }
+
+        return result.toString();
+    }
+
+    private interface Input {
+        int length();
+
+        int at(int index);
+
+        String decode(int start, int end);
+
+        default boolean hasEscapes(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (at(i) == '\\') {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static class CharInput implements Input {
+        private final CharSequence json;
+
+        private CharInput(CharSequence json) {
+            this.json = json;
+        }
+
+        @Override
+        public int length() {
+            return this.json.length();
+        }
+
+        @Override
+        public int at(int index) {
+            return this.json.charAt(index);
+        }
+
+        @Override
+        public String decode(int start, int end) {
+            return this.json.subSequence(start, end).toString();
+        }
+    }
+
+    private static class ByteInput implements Input {
+        private final ByteBuffer json;
+
+        private final int offset;
+
+        private ByteInput(ByteBuffer json) {
+            this.json = json;
+            this.offset = json.position();
+        }
+
+        @Override
+        public int length() {
+            return this.json.limit() - this.offset;
+        }
+
+        @Override
+        public int at(int index) {
+            /*
+             * The structural characters of JSON are ASCII, so the bytes of multibyte
+             * UTF-8 characters (all negative) never match them.
+             */
+            return this.json.get(this.offset + index);
+        }
+
+        @Override
+        public String decode(int start, int end) {
+            byte[] bytes = new byte[end - start];
+            this.json.get(this.offset + start, bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
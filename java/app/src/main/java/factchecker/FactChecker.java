@@ -1,19 +1,35 @@
 package factchecker;
 
+import factchecker.AssessService.Assessment;
 import factchecker.AssessService.Assessor;
+import factchecker.CodecService.Codec;
+import factchecker.CodecService.JsonCodec;
+import factchecker.FetchService.BufferFetcher;
+import factchecker.FetchService.FactFetcher;
 import factchecker.FetchService.Fetcher;
 import factchecker.LoggerService.Logger;
 import factchecker.LoggerService.NullLogger;
+import factchecker.MetricsService.Histogram;
+import factchecker.MetricsService.Metrics;
 import factchecker.NotifierService.Notifier;
 import factchecker.NotifierService.NullNotifier;
 import org.json.JSONException;
-import org.json.JSONObject;
 
 import javax.security.auth.login.LoginException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class FactChecker {
     public static final String API_URL = "https://catfact.ninja/fact";
+    public static final int DEFAULT_CONCURRENCY = 8;
 
     private Logger logger;
 
@@ -23,9 +39,29 @@ public class FactChecker {
 
     private Assessor assessor;
 
+    private Codec codec;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    private Executor executor;
+
+    private Metrics metrics;
+
+    private Histogram factLatency;
+
+    private Histogram fetchLatency;
+
+    private Histogram parseLatency;
+
+    private Histogram assessLatency;
+
+    private Histogram notifyLatency;
+
     public FactChecker(Fetcher fetcher, Assessor assessor) {
         initLogger();
         initNotifier();
+        initCodec();
+        initMetrics();
 
         initFetcher(fetcher);
         initAssessor(assessor);
@@ -39,6 +75,14 @@ public class FactChecker {
         this.notifier = new NullNotifier();
     }
 
+    private void initCodec() {
+        this.codec = new JsonCodec();
+    }
+
+    private void initMetrics() {
+        setMetrics(Metrics.global());
+    }
+
     private void initFetcher(Fetcher fetcher) {
         this.fetcher = fetcher;
     }
@@ -55,6 +99,42 @@ public class FactChecker {
         this.notifier = notifier;
     }
 
+    public void setCodec(Codec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Set a registry for the latencies of the stages (fetch, parse, assess, notify) and the counts of the errors.
+     * By default, the global registry is used.
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        this.factLatency = metrics.histogram("factchecker.fact");
+        this.fetchLatency = metrics.histogram("factchecker.fetch");
+        this.parseLatency = metrics.histogram("factchecker.parse");
+        this.assessLatency = metrics.histogram("factchecker.assess");
+        this.notifyLatency = metrics.histogram("factchecker.notify");
+    }
+
+    /**
+     * Set an executor for running the blocking fetches of the asynchronous methods (e.g. a virtual-thread-per-task
+     * executor from FactExecutors). By default (null), the asynchronous methods rely on the Fetcher::fetchAsync.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Set the maximum number of facts which are fetched simultaneously by a batch.
+     */
+    public void setConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The concurrency should be a positive number.");
+        }
+
+        this.concurrency = concurrency;
+    }
+
     /**
      * Return a fetched random fact with an assessment.
      *
@@ -62,58 +142,358 @@ public class FactChecker {
      */
     public String randomFact() {
         String fact = "";
+        long start = System.nanoTime();
 
         try {
             fact = fetchFact();
         } catch (CannotFetchFact e) {
-            return String.format("Cannot retrieve a fact due to an error: %s.", e.getMessage());
+            return describeError(e);
         }
 
+        return describeFact(fact, start);
+    }
+
+    /**
+     * Return a fetched random fact with an assessment without blocking the caller.
+     *
+     * @return CompletableFuture<String>
+     */
+    public CompletableFuture<String> randomFactAsync() {
+        long start = System.nanoTime();
+
+        return fetchFactAsync()
+            .thenApply(fact -> describeFact(fact, start))
+            .exceptionally(e -> {
+                Throwable cause = unwrap(e);
+
+                if (cause instanceof CannotFetchFact) {
+                    return describeError((CannotFetchFact) cause);
+                }
+
+                throw new CompletionException(cause);
+            });
+    }
+
+    /**
+     * Return a number of fetched random facts with assessments. The facts are fetched in parallel,
+     * but no more than the configured concurrency at once. The results keep the order of requests,
+     * and a failed retrieval does not affect the others.
+     *
+     * @return List<FactResult>
+     */
+    public List<FactResult> randomFacts(int number) {
+        return randomFactsAsync(number).join();
+    }
+
+    /**
+     * Return a number of fetched random facts with assessments without blocking the caller.
+     *
+     * @return CompletableFuture<List<FactResult>>
+     */
+    public CompletableFuture<List<FactResult>> randomFactsAsync(int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("The number of facts cannot be negative.");
+        }
+
+        FactResult[] results = new FactResult[number];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(number);
+        CompletableFuture<List<FactResult>> batch = new CompletableFuture<>();
+
+        if (number == 0) {
+            batch.complete(List.of());
+        }
+
+        for (int lane = 0; lane < Math.min(number, this.concurrency); lane++) {
+            runLane(results, next, remaining, batch);
+        }
+
+        return batch;
+    }
+
+    private void runLane(
+        FactResult[] results,
+        AtomicInteger next,
+        AtomicInteger remaining,
+        CompletableFuture<List<FactResult>> batch
+    ) {
+        int index;
+
+        /*
+         * Each lane fetches facts one after another. The already completed futures are processed in the loop,
+         * and the pending ones continue the lane on completion, so the stack does not grow with the batch size.
+         * An unexpected error fails the whole batch instead of abandoning the lane, so the callers never hang.
+         */
+        try {
+            while ((index = next.getAndIncrement()) < results.length) {
+                final int position = index;
+                CompletableFuture<FactResult> result = fetchResultAsync();
+
+                if (!result.isDone()) {
+                    result.whenComplete((r, e) -> {
+                        if (e != null) {
+                            batch.completeExceptionally(unwrap(e));
+                            return;
+                        }
+
+                        storeResult(results, position, r, remaining, batch);
+                        runLane(results, next, remaining, batch);
+                    });
+                    return;
+                }
+
+                storeResult(results, position, result.join(), remaining, batch);
+            }
+        } catch (RuntimeException e) {
+            batch.completeExceptionally(unwrap(e));
+        }
+    }
+
+    private CompletableFuture<FactResult> fetchResultAsync() {
+        final long start = System.nanoTime();
+        CompletableFuture<String> fact;
+
+        try {
+            fact = fetchFactAsync();
+        } catch (RuntimeException e) {
+            /*
+             * A fetcher which fails before returning a future fails only its own fact.
+             */
+            fact = CompletableFuture.failedFuture(e);
+        }
+
+        return fact
+            .thenApply(f -> FactResult.success(describeFact(f, start)))
+            .exceptionally(e -> {
+                CannotFetchFact error = toCannotFetchFact(unwrap(e));
+
+                return FactResult.failure(describeError(error), error);
+            });
+    }
+
+    private void storeResult(
+        FactResult[] results,
+        int position,
+        FactResult result,
+        AtomicInteger remaining,
+        CompletableFuture<List<FactResult>> batch
+    ) {
+        results[position] = result;
+
+        if (remaining.decrementAndGet() == 0) {
+            batch.complete(Arrays.asList(results));
+        }
+    }
+
+    private CannotFetchFact toCannotFetchFact(Throwable e) {
+        if (e instanceof CannotFetchFact) {
+            return (CannotFetchFact) e;
+        }
+
+        return new CannotFetchFact(e.getMessage(), e);
+    }
+
+    private String describeFact(String fact, long start) {
         String assessment = assessFact(fact);
+        String description = String.format("%s %s", fact, assessment);
+        this.factLatency.record(System.nanoTime() - start);
 
-        return String.format("%s %s", fact, assessment);
+        return description;
+    }
+
+    private String describeError(CannotFetchFact e) {
+        return String.format("Cannot retrieve a fact due to an error: %s.", e.getMessage());
     }
 
     protected String fetchFact() throws CannotFetchFact {
+        String prefetched = pollFact();
+
+        if (prefetched != null) {
+            return prefetched;
+        }
+
+        /*
+         * A fetcher which can hand over the raw bytes is read without decoding the whole body,
+         * the other fetchers are read through their String responses.
+         */
+        if (this.fetcher instanceof BufferFetcher) {
+            return fetchFactFromBuffer((BufferFetcher) this.fetcher);
+        }
+
         String rawFact = "";
-        String fact = "";
+        long start = System.nanoTime();
 
         try {
             rawFact = this.fetcher.fetch(API_URL);
         } catch (IOException | InterruptedException e) {
-            // log special cases: - NoHttpResponse; - ConnectTimeoutException; - etc
-            this.logger.error(e.getMessage());
-            throw new CannotFetchFact(e.getMessage(), e);
+            throw handleFetchError(e);
         }
 
+        this.fetchLatency.record(System.nanoTime() - start);
+
+        return parseFact(rawFact);
+    }
+
+    private String fetchFactFromBuffer(BufferFetcher fetcher) throws CannotFetchFact {
+        ByteBuffer rawFact;
+        long start = System.nanoTime();
+
         try {
-            JSONObject parsedFact = new JSONObject(rawFact);
+            rawFact = fetcher.fetchBuffer(API_URL);
+        } catch (IOException | InterruptedException e) {
+            throw handleFetchError(e);
+        }
 
-            if (!parsedFact.has("fact")) {
-                throw new LoginException(String.format("the fact field doesn't exist. The original JSON is: %s.", rawFact));
-            }
+        this.fetchLatency.record(System.nanoTime() - start);
+
+        return parseFact(rawFact);
+    }
+
+    protected CompletableFuture<String> fetchFactAsync() {
+        if (this.executor != null) {
+            return CompletableFuture.supplyAsync(this::fetchFact, this.executor);
+        }
+
+        String prefetched = pollFact();
+
+        if (prefetched != null) {
+            return CompletableFuture.completedFuture(prefetched);
+        }
+
+        long start = System.nanoTime();
+
+        if (this.fetcher instanceof BufferFetcher) {
+            return ((BufferFetcher) this.fetcher).fetchBufferAsync(API_URL)
+                .handle((rawFact, e) -> {
+                    if (e != null) {
+                        throw handleFetchError(unwrap(e));
+                    }
+
+                    this.fetchLatency.record(System.nanoTime() - start);
+
+                    return parseFact(rawFact);
+                });
+        }
+
+        return this.fetcher.fetchAsync(API_URL)
+            .handle((rawFact, e) -> {
+                if (e != null) {
+                    throw handleFetchError(unwrap(e));
+                }
+
+                this.fetchLatency.record(System.nanoTime() - start);
+
+                return parseFact(rawFact);
+            });
+    }
+
+    /**
+     * Return a fact which a FactFetcher has already extracted, or null when the response has to be fetched.
+     */
+    private String pollFact() {
+        if (this.fetcher instanceof FactFetcher) {
+            return ((FactFetcher) this.fetcher).pollFact(API_URL);
+        }
+
+        return null;
+    }
 
-            fact = parsedFact.getString("fact");
+    private CannotFetchFact handleFetchError(Throwable e) {
+        // log special cases: - NoHttpResponse; - ConnectTimeoutException; - etc
+        countError(e);
+        this.logger.error(e.getMessage());
+        return new CannotFetchFact(e.getMessage(), e);
+    }
+
+    private void countError(Throwable e) {
+        this.metrics.counter("factchecker.errors." + e.getClass().getSimpleName()).increment();
+    }
+
+    private Throwable unwrap(Throwable e) {
+        /*
+         * The dependent stages of a CompletableFuture wrap the original exception.
+         */
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+
+        return e;
+    }
+
+    protected String parseFact(String rawFact) throws CannotFetchFact {
+        String fact = "";
+        long start = System.nanoTime();
+
+        try {
+            fact = requireFact(this.codec.decode(rawFact), () -> rawFact);
         } catch (JSONException e) {
-            // log special cases: - JSON parse exception
-            this.logger.fatal(e.getMessage());
-            throw new CannotFetchFact(e.getMessage(), e);
+            throw handleParseError(e);
         } catch (LoginException e) {
-            // log special cases: - JSON is unexpected
-            this.logger.fatal(e.getMessage());
-            // notify special cases: - notify Discord, - notify Mail
-            this.notifier.notify("email", e.getMessage());
-            this.notifier.notify("email", e.getMessage());
-            this.notifier.notify("slack", e.getMessage());
-            throw new CannotFetchFact(e.getMessage(), e);
+            throw handleUnexpectedJson(e);
         }
 
+        this.parseLatency.record(System.nanoTime() - start);
+
         return fact;
     }
 
+    protected String parseFact(ByteBuffer rawFact) throws CannotFetchFact {
+        String fact = "";
+        long start = System.nanoTime();
+
+        try {
+            /*
+             * The bytes are decoded into a String only when we need to report the original JSON.
+             */
+            fact = requireFact(
+                this.codec.decode(rawFact.duplicate()),
+                () -> StandardCharsets.UTF_8.decode(rawFact.duplicate())
+            );
+        } catch (JSONException e) {
+            throw handleParseError(e);
+        } catch (LoginException e) {
+            throw handleUnexpectedJson(e);
+        }
+
+        this.parseLatency.record(System.nanoTime() - start);
+
+        return fact;
+    }
+
+    private String requireFact(String fact, Supplier<CharSequence> rawFact) throws LoginException {
+        if (fact == null) {
+            throw new LoginException(String.format("the fact field doesn't exist. The original JSON is: %s.", rawFact.get()));
+        }
+
+        return fact;
+    }
+
+    private CannotFetchFact handleParseError(JSONException e) {
+        // log special cases: - JSON parse exception
+        countError(e);
+        this.logger.fatal(e.getMessage());
+        return new CannotFetchFact(e.getMessage(), e);
+    }
+
+    private CannotFetchFact handleUnexpectedJson(LoginException e) {
+        // log special cases: - JSON is unexpected
+        countError(e);
+        this.logger.fatal(e.getMessage());
+        // notify special cases: - notify Discord, - notify Mail
+        long start = System.nanoTime();
+        this.notifier.notify("email", e.getMessage());
+        this.notifier.notify("email", e.getMessage());
+        this.notifier.notify("slack", e.getMessage());
+        this.notifyLatency.record(System.nanoTime() - start);
+        return new CannotFetchFact(e.getMessage(), e);
+    }
+
     protected String assessFact(String fact) {
-        String opinion = this.assessor.getOpinion(fact);
-        int score = this.assessor.getScore(fact);
+        long start = System.nanoTime();
+        Assessment assessment = this.assessor.assess(fact);
+        this.assessLatency.record(System.nanoTime() - start);
+        String opinion = assessment.getOpinion();
+        int score = assessment.getScore();
 
         return String.format(
             "It seems to be %s. Our score is %s point%s.",
@@ -0,0 +1,81 @@
+package factchecker;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors which are suitable for running blocking fact retrievals.
+ */
+public class FactExecutors {
+    public static final int DEFAULT_FALLBACK_THREADS = 64;
+
+    private FactExecutors() {
+    }
+
+    /**
+     * Return an executor which starts a new virtual thread for each task. On the runtimes
+     * without virtual threads (prior to Java 21, or Java 19-20 without --enable-preview), it falls back
+     * to a pool of DEFAULT_FALLBACK_THREADS daemon platform threads, and the extra tasks wait in its queue.
+     *
+     * @return ExecutorService
+     */
+    public static ExecutorService virtualThreadPerTask() {
+        return virtualThreadPerTask(DEFAULT_FALLBACK_THREADS);
+    }
+
+    /**
+     * Return an executor which starts a new virtual thread for each task, or a pool of the given number
+     * of daemon platform threads on the runtimes without virtual threads.
+     *
+     * @return ExecutorService
+     */
+    public static ExecutorService virtualThreadPerTask(int fallbackThreads) {
+        if (fallbackThreads < 1) {
+            throw new IllegalArgumentException("The number of threads should be a positive number.");
+        }
+
+        ExecutorService executor = createVirtualThreadPerTaskExecutor();
+
+        if (executor != null) {
+            return executor;
+        }
+
+        return Executors.newFixedThreadPool(fallbackThreads, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Check whether the current runtime provides virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        ExecutorService executor = createVirtualThreadPerTaskExecutor();
+
+        if (executor == null) {
+            return false;
+        }
+
+        executor.shutdown();
+
+        return true;
+    }
+
+    private static ExecutorService createVirtualThreadPerTaskExecutor() {
+        try {
+            /*
+             * The method is looked up reflectively, because the application still targets Java 17.
+             * On Java 19-20 the method exists, but it throws unless the preview features are enabled,
+             * so the support is detected by actually creating the executor.
+             */
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package factchecker;
+
+/**
+ * A result of a single fact retrieval, which holds either an assessed fact or an error.
+ */
+public class FactResult {
+    private final String description;
+
+    private final CannotFetchFact error;
+
+    private FactResult(String description, CannotFetchFact error) {
+        this.description = description;
+        this.error = error;
+    }
+
+    public static FactResult success(String fact) {
+        return new FactResult(fact, null);
+    }
+
+    public static FactResult failure(String description, CannotFetchFact error) {
+        return new FactResult(description, error);
+    }
+
+    public boolean isSuccessful() {
+        return this.error == null;
+    }
+
+    /**
+     * Return an assessed fact, or null when the retrieval has failed.
+     */
+    public String getFact() {
+        return isSuccessful() ? this.description : null;
+    }
+
+    /**
+     * Return an error, or null when the retrieval has succeeded.
+     */
+    public CannotFetchFact getError() {
+        return this.error;
+    }
+
+    /**
+     * Return an assessed fact or a description of the error, the same as FactChecker::randomFact does.
+     */
+    public String getDescription() {
+        return this.description;
+    }
+}
@@ -0,0 +1,187 @@
+package factchecker;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import factchecker.MetricsService.Metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * An embedded HTTP server which serves facts from a single long-living FactChecker.
+ *
+ * GET /fact returns one assessed fact, GET /facts?n=<number> returns a number of facts, one per line,
+ * and GET /metrics returns a text dump of the metrics.
+ * The handlers don't wait for the upstream API, they respond when the asynchronous retrieval completes.
+ * The response is written on the executor of the server, not on the thread which completes the retrieval
+ * (e.g. a thread of the HTTP client), so a slow client doesn't hold up the other fetches.
+ */
+public class FactServer {
+    public static final int MAX_FACTS = 100;
+
+    private final FactChecker checker;
+
+    private final HttpServer server;
+
+    private final Executor executor;
+
+    private Metrics metrics = Metrics.global();
+
+    public FactServer(FactChecker checker, InetSocketAddress address, Executor executor) throws IOException {
+        this.checker = checker;
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext("/fact", this::handleFact);
+        this.server.createContext("/facts", this::handleFacts);
+        this.server.createContext("/metrics", this::handleMetrics);
+        this.server.setExecutor(executor);
+        this.executor = Objects.requireNonNull(executor, "The server needs an executor to respond on.");
+    }
+
+    /**
+     * Set a registry for the /metrics endpoint. By default, the global registry is used.
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void start() {
+        this.server.start();
+    }
+
+    public void stop() {
+        this.server.stop(0);
+    }
+
+    public InetSocketAddress getAddress() {
+        return this.server.getAddress();
+    }
+
+    private void handleFact(HttpExchange exchange) throws IOException {
+        if (!isValidRequest(exchange, "/fact")) {
+            return;
+        }
+
+        respondWhenComplete(exchange, this.checker.randomFactAsync());
+    }
+
+    private void handleFacts(HttpExchange exchange) throws IOException {
+        if (!isValidRequest(exchange, "/facts")) {
+            return;
+        }
+
+        int number;
+
+        try {
+            number = parseNumber(exchange.getRequestURI().getRawQuery());
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage());
+            return;
+        }
+
+        CompletableFuture<String> facts = this.checker.randomFactsAsync(number)
+            .thenApply(this::joinResults);
+
+        respondWhenComplete(exchange, facts);
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        if (!isValidRequest(exchange, "/metrics")) {
+            return;
+        }
+
+        respond(exchange, 200, this.metrics.dump().strip());
+    }
+
+    private boolean isValidRequest(HttpExchange exchange, String path) throws IOException {
+        /*
+         * A context handles all of the paths starting with its prefix, so we check the exact path.
+         */
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            respond(exchange, 404, "Not found.");
+            return false;
+        }
+
+        if (!exchange.getRequestMethod().equals("GET")) {
+            exchange.getResponseHeaders().add("allow", "GET");
+            respond(exchange, 405, "Method not allowed.");
+            return false;
+        }
+
+        return true;
+    }
+
+    private int parseNumber(String query) {
+        String value = "1";
+
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("n=")) {
+                    value = parameter.substring(2);
+                }
+            }
+        }
+
+        try {
+            int number = Integer.parseInt(value);
+
+            if (number >= 1 && number <= MAX_FACTS) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // falls through to the error below
+        }
+
+        throw new IllegalArgumentException(String.format("The n parameter should be a number from 1 to %d.", MAX_FACTS));
+    }
+
+    private String joinResults(List<FactResult> results) {
+        return results.stream()
+            .map(FactResult::getDescription)
+            .collect(Collectors.joining("\n"));
+    }
+
+    private void respondWhenComplete(HttpExchange exchange, CompletableFuture<String> response) {
+        response.whenCompleteAsync((body, e) -> {
+            try {
+                if (e != null) {
+                    respond(exchange, 500, "Internal server error.");
+                    return;
+                }
+
+                respond(exchange, 200, body);
+            } catch (IOException ignored) {
+                // the client has gone, there is nobody to respond to
+            } catch (RuntimeException failure) {
+                respondQuietly(exchange, 500, "Internal server error.");
+            } finally {
+                exchange.close();
+            }
+        }, this.executor);
+    }
+
+    private void respondQuietly(HttpExchange exchange, int status, String body) {
+        try {
+            respond(exchange, status, body);
+        } catch (IOException | RuntimeException ignored) {
+            // the response has already been started, the exchange is only closed
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = (body + "\n").getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("content-type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
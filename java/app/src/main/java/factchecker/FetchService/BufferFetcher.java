@@ -0,0 +1,36 @@
+package factchecker.FetchService;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A Fetcher which can hand over the raw bytes of a response, so they can be decoded
+ * without building an intermediate String of the whole body.
+ */
+public interface BufferFetcher extends Fetcher {
+    /**
+     * Fetch the provided url and return the raw response body.
+     *
+     * @throws java.io.IOException
+     * @throws InterruptedException
+     */
+    ByteBuffer fetchBuffer(String url) throws IOException, InterruptedException;
+
+    /**
+     * Fetch the provided url and return the raw response body without blocking the caller.
+     *
+     * The default implementation is suitable for blocking fetchers only, because it calls
+     * the blocking method on the calling thread and returns an already completed future.
+     */
+    default CompletableFuture<ByteBuffer> fetchBufferAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetchBuffer(url));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
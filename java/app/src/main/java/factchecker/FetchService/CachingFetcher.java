@@ -0,0 +1,300 @@
+package factchecker.FetchService;
+
+import factchecker.CodecService.Codec;
+import factchecker.CodecService.JsonCodec;
+import org.json.JSONException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A Fetcher decorator which keeps a bounded pool of recently fetched responses per url.
+ *
+ * The freshness policy is simple: until a pool is full, every fetch goes to the upstream and its response
+ * is added to the pool. Once the pool is full, a fetch returns a random response from memory, except for every
+ * refresh interval-th fetch, which still goes to the upstream, and its response replaces the least recently
+ * used one. A response expires after the time to live, which makes room for the new upstream responses.
+ *
+ * Only the responses with a fact are kept, so an error payload of the upstream (e.g. a rate limit) is never
+ * served from memory. The same fact may be kept more than once, so a small corpus still fills the pool.
+ *
+ * A fetch from memory doesn't lock the pool, and only the picked response is checked for the expiry.
+ * The pools are kept for MAX_URLS urls at most, and the fetches of the other urls go to the upstream.
+ */
+public class CachingFetcher implements Fetcher {
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    public static final int DEFAULT_REFRESH_INTERVAL = 16;
+    public static final int MAX_URLS = 64;
+
+    private final Fetcher fetcher;
+
+    private final int capacity;
+
+    private final long ttl;
+
+    private final LongSupplier clock;
+
+    private volatile Codec codec = new JsonCodec();
+
+    private volatile int refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+    private final ConcurrentHashMap<String, Pool> pools = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingFetcher(Fetcher fetcher) {
+        this(fetcher, DEFAULT_CAPACITY, DEFAULT_TTL);
+    }
+
+    public CachingFetcher(Fetcher fetcher, int capacity, Duration ttl) {
+        this(fetcher, capacity, ttl, System::nanoTime);
+    }
+
+    CachingFetcher(Fetcher fetcher, int capacity, Duration ttl, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity should be a positive number.");
+        }
+
+        this.fetcher = fetcher;
+        this.capacity = capacity;
+        this.ttl = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Set a codec which tells the responses with a fact from the others. By default, the JSON codec is used.
+     */
+    public void setCodec(Codec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Set how often a fetch from the full pool goes to the upstream, e.g. 16 means every 16th fetch.
+     */
+    public void setRefreshInterval(int refreshInterval) {
+        if (refreshInterval < 1) {
+            throw new IllegalArgumentException("The refresh interval should be a positive number.");
+        }
+
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public String fetch(String url) throws IOException, InterruptedException {
+        Pool pool = retrievePool(url);
+
+        if (pool == null) {
+            this.misses.increment();
+            return this.fetcher.fetch(url);
+        }
+
+        String cached = pool.pick(this.clock.getAsLong());
+
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+
+        this.misses.increment();
+        String body = this.fetcher.fetch(url);
+        pool.add(body, this.clock.getAsLong());
+
+        return body;
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        Pool pool = retrievePool(url);
+
+        if (pool == null) {
+            this.misses.increment();
+            return this.fetcher.fetchAsync(url);
+        }
+
+        String cached = pool.pick(this.clock.getAsLong());
+
+        if (cached != null) {
+            this.hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        this.misses.increment();
+        return this.fetcher.fetchAsync(url)
+            .thenApply(body -> {
+                pool.add(body, this.clock.getAsLong());
+                return body;
+            });
+    }
+
+    /**
+     * Return the pool of the url, or null when there are pools for MAX_URLS other urls already.
+     */
+    private Pool retrievePool(String url) {
+        Pool pool = this.pools.get(url);
+
+        if (pool != null || this.pools.size() >= MAX_URLS) {
+            return pool;
+        }
+
+        return this.pools.computeIfAbsent(url, key -> new Pool());
+    }
+
+    private boolean hasFact(String body) {
+        if (body == null || body.isEmpty()) {
+            return false;
+        }
+
+        try {
+            return this.codec.decode(body) != null;
+        } catch (JSONException e) {
+            return false;
+        }
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    private static class Entry {
+        private final String body;
+
+        private final long createdAt;
+
+        private volatile long accessedAt;
+
+        private Entry(String body, long createdAt) {
+            this.body = body;
+            this.createdAt = createdAt;
+            this.accessedAt = createdAt;
+        }
+    }
+
+    private class Pool {
+        private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(capacity);
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicLong picks = new AtomicLong();
+
+        /**
+         * Return a random fresh response, or null when the pool is not full yet, a refresh is due,
+         * or the picked response has expired (which is removed then).
+         */
+        String pick(long now) {
+            if (this.size.get() < capacity || this.picks.incrementAndGet() % refreshInterval == 0) {
+                return null;
+            }
+
+            int index = ThreadLocalRandom.current().nextInt(capacity);
+            Entry entry = this.entries.get(index);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (now - entry.createdAt >= ttl) {
+                remove(index, entry);
+                return null;
+            }
+
+            entry.accessedAt = now;
+
+            return entry.body;
+        }
+
+        void add(String body, long now) {
+            /*
+             * The body is decoded outside the lock, so the other upstream responses don't wait for it.
+             * The picks never take the lock, and they only ever empty a slot, so a free slot stays free.
+             */
+            if (!hasFact(body)) {
+                return;
+            }
+
+            synchronized (this) {
+                int free = removeExpired(now);
+
+                if (free < 0) {
+                    free = removeLeastRecentlyUsed();
+                }
+
+                this.entries.set(free, new Entry(body, now));
+                this.size.incrementAndGet();
+            }
+        }
+
+        /**
+         * Remove the expired responses, and return the index of a free slot, or -1 when the pool is full.
+         */
+        private int removeExpired(long now) {
+            int free = -1;
+
+            for (int index = 0; index < capacity; index++) {
+                Entry entry = this.entries.get(index);
+
+                if (entry != null && now - entry.createdAt >= ttl) {
+                    remove(index, entry);
+                    entry = null;
+                }
+
+                if (entry == null && free < 0) {
+                    free = index;
+                }
+            }
+
+            return free;
+        }
+
+        private int removeLeastRecentlyUsed() {
+            int leastRecentlyUsed = 0;
+
+            for (int index = 1; index < capacity; index++) {
+                Entry entry = this.entries.get(index);
+                Entry other = this.entries.get(leastRecentlyUsed);
+
+                if (entry == null || (other != null && entry.accessedAt < other.accessedAt)) {
+                    leastRecentlyUsed = index;
+                }
+            }
+
+            Entry entry = this.entries.get(leastRecentlyUsed);
+
+            if (entry != null) {
+                remove(leastRecentlyUsed, entry);
+            }
+
+            return leastRecentlyUsed;
+        }
+
+        private void remove(int index, Entry entry) {
+            /*
+             * Only the thread which empties the slot counts the eviction.
+             */
+            if (this.entries.compareAndSet(index, entry, null)) {
+                this.size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+}
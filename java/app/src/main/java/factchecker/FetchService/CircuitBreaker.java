@@ -0,0 +1,192 @@
+package factchecker.FetchService;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A lock-free circuit breaker. After a number of consecutive failures, the circuit opens and the requests
+ * are rejected without touching the upstream. Once the open duration passes, a single trial request
+ * is let through: its success closes the circuit, its failure opens the circuit once again.
+ *
+ * A permit remembers whether it was the trial, so only the trial decides on a half-open circuit,
+ * and the late results of the requests which started before are ignored.
+ */
+public class CircuitBreaker {
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(10);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final Snapshot CLOSED = new Snapshot(State.CLOSED, 0, 0);
+
+    private static final Permit CLOSED_PERMIT = new Permit(null);
+
+    private final int failureThreshold;
+
+    private final long openDuration;
+
+    private final LongSupplier clock;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(CLOSED);
+
+    private final LongAdder rejections = new LongAdder();
+
+    private final LongAdder openings = new LongAdder();
+
+    public CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("The failure threshold should be a positive number.");
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Return a permit for a request to the upstream, or null when the request should be rejected.
+     * Every permit should be followed by exactly one of onSuccess, onFailure or release.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            Snapshot current = this.snapshot.get();
+
+            if (current.state == State.CLOSED) {
+                return CLOSED_PERMIT;
+            }
+
+            if (current.state == State.OPEN && this.clock.getAsLong() - current.openedAt >= this.openDuration) {
+                Snapshot trial = new Snapshot(State.HALF_OPEN, 0, current.openedAt);
+
+                if (this.snapshot.compareAndSet(current, trial)) {
+                    return new Permit(trial);
+                }
+
+                continue;
+            }
+
+            this.rejections.increment();
+            return null;
+        }
+    }
+
+    public void onSuccess(Permit permit) {
+        if (permit.trial != null) {
+            this.snapshot.compareAndSet(permit.trial, CLOSED);
+            return;
+        }
+
+        Snapshot current;
+
+        /*
+         * The common case (a closed circuit without failures) doesn't write anything.
+         * A late success of a request, which started before the circuit opened, is ignored.
+         */
+        while ((current = this.snapshot.get()) != CLOSED && current.state == State.CLOSED) {
+            if (this.snapshot.compareAndSet(current, CLOSED)) {
+                return;
+            }
+        }
+    }
+
+    public void onFailure(Permit permit) {
+        if (permit.trial != null) {
+            if (this.snapshot.compareAndSet(permit.trial, new Snapshot(State.OPEN, 0, this.clock.getAsLong()))) {
+                this.openings.increment();
+            }
+
+            return;
+        }
+
+        while (true) {
+            Snapshot current = this.snapshot.get();
+            Snapshot next;
+
+            /*
+             * A late failure of a request, which started before the circuit opened, is ignored.
+             */
+            if (current.state != State.CLOSED) {
+                return;
+            }
+
+            if (current.failures + 1 >= this.failureThreshold) {
+                next = new Snapshot(State.OPEN, 0, this.clock.getAsLong());
+            } else {
+                next = new Snapshot(State.CLOSED, current.failures + 1, 0);
+            }
+
+            if (this.snapshot.compareAndSet(current, next)) {
+                if (next.state == State.OPEN) {
+                    this.openings.increment();
+                }
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Give the permit back without a verdict on the upstream (e.g. the caller was interrupted).
+     * A released trial lets the next request try again.
+     */
+    public void release(Permit permit) {
+        if (permit.trial != null) {
+            this.snapshot.compareAndSet(permit.trial, new Snapshot(State.OPEN, 0, permit.trial.openedAt));
+        }
+    }
+
+    public State getState() {
+        return this.snapshot.get().state;
+    }
+
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    public long getOpenings() {
+        return this.openings.sum();
+    }
+
+    /**
+     * A permission for a single request, which is either a regular one or the trial of a half-open circuit.
+     */
+    public static final class Permit {
+        private final Snapshot trial;
+
+        private Permit(Snapshot trial) {
+            this.trial = trial;
+        }
+
+        public boolean isTrial() {
+            return this.trial != null;
+        }
+    }
+
+    private static final class Snapshot {
+        private final State state;
+
+        private final int failures;
+
+        private final long openedAt;
+
+        private Snapshot(State state, int failures, long openedAt) {
+            this.state = state;
+            this.failures = failures;
+            this.openedAt = openedAt;
+        }
+    }
+}
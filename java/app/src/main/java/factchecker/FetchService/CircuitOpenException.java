@@ -0,0 +1,21 @@
+package factchecker.FetchService;
+
+import java.io.IOException;
+
+/**
+ * The request was rejected without reaching the upstream, because the circuit breaker is open.
+ */
+public class CircuitOpenException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * @param cause the last failure of the upstream, which has opened the circuit, or null
+     */
+    public CircuitOpenException(String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
+    }
+}
@@ -1,24 +1,146 @@
 package factchecker.FetchService;
 
+import factchecker.MetricsService.Histogram;
+import factchecker.MetricsService.Metrics;
+
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DefaultFetcher implements BufferFetcher {
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(3);
+    public static final int DEFAULT_THREADS = 4;
+
+    private final HttpClient client;
+
+    private final Duration requestTimeout;
+
+    private Histogram latency;
+
+    private LongAdder errors;
+
+    public DefaultFetcher() {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, DEFAULT_THREADS);
+    }
+
+    public DefaultFetcher(Duration connectTimeout, Duration requestTimeout, int threads) {
+        this.client = createClient(connectTimeout, threads);
+        this.requestTimeout = requestTimeout;
+
+        setMetrics(Metrics.global());
+    }
+
+    /**
+     * Set a registry for the latencies and the errors of the requests. By default, the global registry is used.
+     */
+    public void setMetrics(Metrics metrics) {
+        this.latency = metrics.histogram("fetcher.request");
+        this.errors = metrics.counter("fetcher.errors");
+    }
+
+    private HttpClient createClient(Duration connectTimeout, int threads) {
+        /*
+         * The client is created once and shared between requests, so the connection pool,
+         * the negotiated HTTP/2 connections, and the TLS sessions are reused between fetches.
+         */
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .executor(createExecutor(threads))
+            .build();
+    }
+
+    private ExecutorService createExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "fetcher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
 
-public class DefaultFetcher implements Fetcher {
     @Override
     public String fetch(String url) throws IOException, InterruptedException {
+        return send(url, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        return sendAsync(url, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Override
+    public ByteBuffer fetchBuffer(String url) throws IOException, InterruptedException {
+        return ByteBuffer.wrap(send(url, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> fetchBufferAsync(String url) {
+        return sendAsync(url, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(ByteBuffer::wrap);
+    }
+
+    private <T> T send(String url, HttpResponse.BodyHandler<T> handler) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+
+        try {
+            T body = this.client.send(createRequest(url), handler).body();
+            this.latency.record(System.nanoTime() - start);
+
+            return body;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            /*
+             * Every failure is counted, including an interrupted request and a request which cannot be built.
+             */
+            this.errors.increment();
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String url, HttpResponse.BodyHandler<T> handler) {
+        long start = System.nanoTime();
+        HttpRequest request;
+
+        try {
+            request = createRequest(url);
+        } catch (RuntimeException e) {
+            /*
+             * A request which cannot be built (e.g. a malformed URL) fails through the future, like a sent one.
+             */
+            this.errors.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return this.client
+            .sendAsync(request, handler)
+            .whenComplete((response, e) -> {
+                if (e != null) {
+                    this.errors.increment();
+                } else {
+                    this.latency.record(System.nanoTime() - start);
+                }
+            })
+            .thenApply(HttpResponse::body);
+    }
+
+    private HttpRequest createRequest(String url) {
         var uri = URI.create(url);
-        HttpRequest request = HttpRequest.newBuilder(uri)
+
+        return HttpRequest.newBuilder(uri)
             .header("accept", "application/json")
-            .timeout(Duration.ofSeconds(3))
+            .timeout(this.requestTimeout)
             .build();
-
-        HttpResponse<String> response = HttpClient.newHttpClient()
-            .send(request, HttpResponse.BodyHandlers.ofString());
-
-        return response.body();
     }
 }
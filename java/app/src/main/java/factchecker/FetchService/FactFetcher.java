@@ -0,0 +1,13 @@
+package factchecker.FetchService;
+
+/**
+ * A Fetcher which keeps facts which are already extracted from the responses,
+ * so they can be handed over without decoding the responses once again.
+ */
+public interface FactFetcher extends Fetcher {
+    /**
+     * Return an already extracted fact of the provided url, or null when none is at hand.
+     * In the latter case, the caller fetches the url as usual.
+     */
+    String pollFact(String url);
+}
@@ -1,6 +1,7 @@
 package factchecker.FetchService;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public interface Fetcher {
     /**
@@ -10,4 +11,22 @@ public interface Fetcher {
      * @throws InterruptedException
      */
     String fetch(String url) throws IOException, InterruptedException;
+
+    /**
+     * Fetch the provided url without blocking the caller. The returned future completes
+     * exceptionally with an IOException or an InterruptedException when the fetch fails.
+     *
+     * The default implementation is suitable for blocking fetchers only, because it calls
+     * the blocking method on the calling thread and returns an already completed future.
+     */
+    default CompletableFuture<String> fetchAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetch(url));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,318 @@
+package factchecker.FetchService;
+
+import factchecker.CodecService.Codec;
+import factchecker.CodecService.JsonCodec;
+import org.json.JSONException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Fetcher decorator which keeps a buffer of already fetched responses for a url, so a fetch
+ * does not wait for the network while the buffer has stock.
+ *
+ * The facts are extracted by the workers, when they check the responses, and are buffered next to them,
+ * so a FactChecker takes an extracted fact (see FactFetcher) instead of decoding the response once again.
+ * The codec of the prefetcher should therefore match the one of the FactChecker.
+ *
+ * Background workers refill the buffer when it falls below the low-water mark. Only the responses with a fact
+ * are buffered. When the upstream fails or responds without a fact (e.g. with a rate limit error), the workers
+ * back off exponentially, from the initial back-off up to the maximum one.
+ * The fetches of other urls and the fetches from an empty buffer go directly to the upstream.
+ */
+public class PrefetchingFetcher implements FactFetcher, AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 32;
+    public static final int DEFAULT_PARALLELISM = 2;
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(500);
+    public static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final Fetcher fetcher;
+
+    private final String url;
+
+    private final int bufferSize;
+
+    private final int lowWaterMark;
+
+    private final int parallelism;
+
+    private final long initialBackoff;
+
+    private final ConcurrentLinkedQueue<Prefetched> buffer = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    private final AtomicInteger workers = new AtomicInteger();
+
+    private final AtomicLong backoff;
+
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private volatile Codec codec = new JsonCodec();
+
+    private volatile boolean closed = false;
+
+    public PrefetchingFetcher(Fetcher fetcher, String url) {
+        this(fetcher, url, DEFAULT_BUFFER_SIZE, DEFAULT_PARALLELISM, DEFAULT_BACKOFF);
+    }
+
+    public PrefetchingFetcher(Fetcher fetcher, String url, int bufferSize, int parallelism, Duration backoff) {
+        if (bufferSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("The buffer size and the parallelism should be positive numbers.");
+        }
+
+        this.fetcher = fetcher;
+        this.url = url;
+        this.bufferSize = bufferSize;
+        this.lowWaterMark = Math.max(1, bufferSize / 2);
+        this.parallelism = parallelism;
+        this.initialBackoff = backoff.toMillis();
+        this.backoff = new AtomicLong(this.initialBackoff);
+        this.executor = createExecutor(parallelism);
+
+        startWorkers();
+    }
+
+    private ScheduledExecutorService createExecutor(int parallelism) {
+        AtomicInteger counter = new AtomicInteger();
+
+        return Executors.newScheduledThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "prefetcher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Set a codec which extracts the facts from the responses. By default, the JSON codec is used.
+     */
+    public void setCodec(Codec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public String fetch(String url) throws IOException, InterruptedException {
+        if (!this.url.equals(url)) {
+            return this.fetcher.fetch(url);
+        }
+
+        Prefetched prefetched = take();
+
+        if (prefetched != null) {
+            return prefetched.body;
+        }
+
+        return this.fetcher.fetch(url);
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        if (!this.url.equals(url)) {
+            return this.fetcher.fetchAsync(url);
+        }
+
+        Prefetched prefetched = take();
+
+        if (prefetched != null) {
+            return CompletableFuture.completedFuture(prefetched.body);
+        }
+
+        return this.fetcher.fetchAsync(url);
+    }
+
+    @Override
+    public String pollFact(String url) {
+        if (!this.url.equals(url)) {
+            return null;
+        }
+
+        Prefetched prefetched = take();
+
+        return (prefetched != null) ? prefetched.fact : null;
+    }
+
+    private Prefetched take() {
+        Prefetched prefetched = this.buffer.poll();
+
+        if (prefetched == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+            this.buffered.decrementAndGet();
+            this.reserved.decrementAndGet();
+        }
+
+        if (this.buffered.get() < this.lowWaterMark) {
+            startWorkers();
+        }
+
+        return prefetched;
+    }
+
+    private void startWorkers() {
+        int running;
+
+        while ((running = this.workers.get()) < this.parallelism && !this.closed) {
+            if (this.workers.compareAndSet(running, running + 1)) {
+                this.executor.execute(this::refill);
+            }
+        }
+    }
+
+    private void refill() {
+        boolean rescheduled = false;
+
+        try {
+            while (!this.closed && reserveSlot()) {
+                if (!fetchIntoSlot()) {
+                    this.errors.increment();
+                    rescheduled = scheduleRefill();
+                    return;
+                }
+
+                this.backoff.set(this.initialBackoff);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.errors.increment();
+            rescheduled = scheduleRefill();
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            /*
+             * A rescheduled refill keeps its worker, any other exit (including an Error) releases it.
+             */
+            if (!rescheduled) {
+                this.workers.decrementAndGet();
+            }
+        }
+
+        /*
+         * A fetch might have taken the stock while the worker was stopping, so we check it once again.
+         */
+        if (this.buffered.get() < this.lowWaterMark) {
+            startWorkers();
+        }
+    }
+
+    private boolean reserveSlot() {
+        /*
+         * The parallel workers reserve a slot before fetching, so the buffer never exceeds its size.
+         */
+        int current;
+
+        while ((current = this.reserved.get()) < this.bufferSize) {
+            if (this.reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Fetch a response into the reserved slot, and return whether it was a fact. Otherwise, the slot is released.
+     */
+    private boolean fetchIntoSlot() throws IOException, InterruptedException {
+        boolean stocked = false;
+
+        try {
+            String body = this.fetcher.fetch(this.url);
+            String fact = extractFact(body);
+
+            if (fact != null) {
+                this.buffer.offer(new Prefetched(body, fact));
+                this.buffered.incrementAndGet();
+                stocked = true;
+            }
+        } finally {
+            if (!stocked) {
+                this.reserved.decrementAndGet();
+            }
+        }
+
+        return stocked;
+    }
+
+    private String extractFact(String body) {
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return this.codec.decode(body);
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private boolean scheduleRefill() {
+        long delay = this.backoff.getAndUpdate(current -> Math.min(current * 2, MAX_BACKOFF.toMillis()));
+
+        if (this.closed) {
+            return false;
+        }
+
+        try {
+            this.executor.schedule(this::refill, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            /*
+             * The fetcher has been closed in the meantime.
+             */
+            return false;
+        }
+
+        return true;
+    }
+
+    public int getBuffered() {
+        return this.buffered.get();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.executor.shutdownNow();
+    }
+
+    private static final class Prefetched {
+        private final String body;
+
+        private final String fact;
+
+        private Prefetched(String body, String fact) {
+            this.body = body;
+            this.fact = fact;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package factchecker.FetchService;
+
+import java.io.IOException;
+
+/**
+ * The request was rejected without reaching the upstream, because the rate limit is exceeded.
+ */
+public class RateLimitExceededException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public RateLimitExceededException(String errorMessage) {
+        super(errorMessage);
+    }
+}
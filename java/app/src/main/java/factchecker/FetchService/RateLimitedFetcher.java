@@ -0,0 +1,190 @@
+package factchecker.FetchService;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A Fetcher decorator which limits the rate of the upstream requests with a token bucket.
+ *
+ * The bucket is kept as a single timestamp (the generic cell rate algorithm): the theoretical arrival time
+ * of the next request moves forward by one interval per permit, and a request is allowed while the time
+ * is no more than the burst ahead of now. A throttled fetch either waits for its turn or fails at once.
+ * A throttled asynchronous fetch is sent on the supplied executor, which should suit the upstream
+ * (e.g. a virtual-thread-per-task executor for a blocking one).
+ */
+public class RateLimitedFetcher implements Fetcher {
+    public enum Policy {
+        WAIT,
+        FAIL
+    }
+
+    private final Fetcher fetcher;
+
+    private final long interval;
+
+    private final long tolerance;
+
+    private final Policy policy;
+
+    private final Executor executor;
+
+    private final LongSupplier clock;
+
+    private final AtomicLong arrivalTime;
+
+    private final LongAdder permits = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder rejections = new LongAdder();
+
+    private final LongAdder waitTime = new LongAdder();
+
+    private final LongAdder contentions = new LongAdder();
+
+    public RateLimitedFetcher(Fetcher fetcher, double permitsPerSecond, int burst, Policy policy, Executor executor) {
+        this(fetcher, permitsPerSecond, burst, policy, executor, System::nanoTime);
+    }
+
+    RateLimitedFetcher(
+        Fetcher fetcher,
+        double permitsPerSecond,
+        int burst,
+        Policy policy,
+        Executor executor,
+        LongSupplier clock
+    ) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("The permits per second and the burst should be positive numbers.");
+        }
+
+        this.fetcher = fetcher;
+        this.interval = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.tolerance = this.interval * burst;
+        this.policy = policy;
+        this.executor = Objects.requireNonNull(executor, "The throttled fetches need an executor.");
+        this.clock = clock;
+        this.arrivalTime = new AtomicLong(clock.getAsLong());
+    }
+
+    @Override
+    public String fetch(String url) throws IOException, InterruptedException {
+        long delay = acquire();
+
+        if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+
+        return this.fetcher.fetch(url);
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        long delay;
+
+        try {
+            delay = acquire();
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (delay <= 0) {
+            return this.fetcher.fetchAsync(url);
+        }
+
+        /*
+         * The waiting fetch doesn't hold a thread. The timer only hands it over to the executor once its turn comes.
+         */
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, Runnable::run).execute(() -> {
+            try {
+                this.executor.execute(() -> forwardFetch(url, result));
+            } catch (RuntimeException e) {
+                /*
+                 * The executor doesn't take the fetch (e.g. rejects it), so the waiting caller is released.
+                 */
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    private void forwardFetch(String url, CompletableFuture<String> result) {
+        try {
+            this.fetcher.fetchAsync(url).whenComplete((body, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    result.complete(body);
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Take a permit and return the time to wait for it, or throw when the policy doesn't allow waiting.
+     */
+    private long acquire() throws RateLimitExceededException {
+        while (true) {
+            long now = this.clock.getAsLong();
+            long current = this.arrivalTime.get();
+            long next = Math.max(current, now) + this.interval;
+            long delay = next - now - this.tolerance;
+
+            if (delay > 0 && this.policy == Policy.FAIL) {
+                this.throttled.increment();
+                this.rejections.increment();
+                throw new RateLimitExceededException("the rate limit of the upstream is exceeded");
+            }
+
+            if (this.arrivalTime.compareAndSet(current, next)) {
+                this.permits.increment();
+
+                if (delay > 0) {
+                    this.throttled.increment();
+                    this.waitTime.add(delay);
+                }
+
+                return delay;
+            }
+
+            this.contentions.increment();
+        }
+    }
+
+    public long getPermits() {
+        return this.permits.sum();
+    }
+
+    public long getThrottled() {
+        return this.throttled.sum();
+    }
+
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    /**
+     * Return the total time (in nanoseconds) which the throttled fetches had to wait.
+     */
+    public long getWaitTime() {
+        return this.waitTime.sum();
+    }
+
+    /**
+     * Return the number of times a fetch had to retry taking a permit because of a concurrent fetch.
+     */
+    public long getContentions() {
+        return this.contentions.sum();
+    }
+}
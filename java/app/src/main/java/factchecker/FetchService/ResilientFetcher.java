@@ -0,0 +1,387 @@
+package factchecker.FetchService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Fetcher decorator which protects the callers from a slow or failing upstream.
+ *
+ * A circuit breaker rejects the requests at once while the upstream keeps failing. A failed request is retried
+ * with an exponential back-off and full jitter, as long as the attempts per request and the shared retry budget
+ * allow it. Optionally, a request is hedged: when the upstream doesn't answer within the 95th percentile
+ * of the recent latencies, a second request is sent and the first successful response wins.
+ *
+ * The asynchronous retries and hedges are sent on the supplied executor, so it should suit the upstream
+ * (e.g. a virtual-thread-per-task executor for a blocking one). Only the I/O failures of the upstream count
+ * as the failures of the circuit; when the circuit opens between the retries, the last failure is the cause.
+ * A request which is throttled locally (RateLimitExceededException) never reached the upstream,
+ * so it is neither retried nor counted by the circuit.
+ */
+public class ResilientFetcher implements Fetcher {
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(100);
+    public static final Duration MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private final Fetcher fetcher;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final RetryBudget retryBudget;
+
+    private final int maxAttempts;
+
+    private final long backoff;
+
+    private final Executor executor;
+
+    private final LatencyWindow latencies = new LatencyWindow();
+
+    private volatile long hedgeDelay = -1;
+
+    private final LongAdder hedges = new LongAdder();
+
+    private final LongAdder hedgeWins = new LongAdder();
+
+    public ResilientFetcher(Fetcher fetcher, Executor executor) {
+        this(fetcher, new CircuitBreaker(), new RetryBudget(), DEFAULT_MAX_ATTEMPTS, DEFAULT_BACKOFF, executor);
+    }
+
+    public ResilientFetcher(
+        Fetcher fetcher,
+        CircuitBreaker circuitBreaker,
+        RetryBudget retryBudget,
+        int maxAttempts,
+        Duration backoff,
+        Executor executor
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The number of attempts should be a positive number.");
+        }
+
+        this.fetcher = fetcher;
+        this.circuitBreaker = circuitBreaker;
+        this.retryBudget = retryBudget;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff.toNanos();
+        this.executor = Objects.requireNonNull(executor, "The retries and the hedges need an executor.");
+    }
+
+    /**
+     * Hedge the requests. Until enough latencies are observed, the second request is sent after the initial delay,
+     * later after the 95th percentile of the recent latencies. A null delay disables the hedging (the default).
+     * The hedging relies on the Fetcher::fetchAsync of the upstream, so a blocking upstream is never hedged.
+     */
+    public void setHedging(Duration initialDelay) {
+        this.hedgeDelay = (initialDelay == null) ? -1 : initialDelay.toNanos();
+    }
+
+    @Override
+    public String fetch(String url) throws IOException, InterruptedException {
+        if (this.hedgeDelay >= 0) {
+            return awaitFetch(url);
+        }
+
+        this.retryBudget.deposit();
+        IOException failure = null;
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return attemptFetch(url, failure);
+            } catch (CircuitOpenException | RateLimitExceededException e) {
+                throw e;
+            } catch (IOException e) {
+                if (!mayRetry(attempt)) {
+                    throw e;
+                }
+
+                failure = e;
+            }
+
+            TimeUnit.NANOSECONDS.sleep(calculateBackoff(attempt));
+        }
+    }
+
+    private String attemptFetch(String url, IOException lastFailure) throws IOException, InterruptedException {
+        CircuitBreaker.Permit permit = this.circuitBreaker.tryAcquire();
+
+        if (permit == null) {
+            throw createCircuitOpenException(lastFailure);
+        }
+
+        boolean reported = false;
+        long start = System.nanoTime();
+
+        try {
+            String body = this.fetcher.fetch(url);
+            this.latencies.record(System.nanoTime() - start);
+            this.circuitBreaker.onSuccess(permit);
+            reported = true;
+
+            return body;
+        } catch (RateLimitExceededException e) {
+            throw e;
+        } catch (IOException e) {
+            this.circuitBreaker.onFailure(permit);
+            reported = true;
+
+            throw e;
+        } finally {
+            /*
+             * An interruption, a local throttling or a programming error tells nothing about the upstream.
+             */
+            if (!reported) {
+                this.circuitBreaker.release(permit);
+            }
+        }
+    }
+
+    private String awaitFetch(String url) throws IOException, InterruptedException {
+        try {
+            return fetchAsync(url).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        this.retryBudget.deposit();
+        attemptFetchAsync(url, 0, null, result);
+
+        return result;
+    }
+
+    private void attemptFetchAsync(String url, int attempt, Throwable lastFailure, CompletableFuture<String> result) {
+        CircuitBreaker.Permit permit = this.circuitBreaker.tryAcquire();
+
+        if (permit == null) {
+            result.completeExceptionally(createCircuitOpenException(lastFailure));
+            return;
+        }
+
+        hedgeFetch(url).whenComplete((body, e) -> {
+            if (e == null) {
+                this.circuitBreaker.onSuccess(permit);
+                result.complete(body);
+                return;
+            }
+
+            Throwable cause = unwrap(e);
+
+            if (!(cause instanceof IOException) || cause instanceof RateLimitExceededException) {
+                this.circuitBreaker.release(permit);
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            this.circuitBreaker.onFailure(permit);
+
+            if (!mayRetry(attempt)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            runLater(
+                calculateBackoff(attempt),
+                () -> attemptFetchAsync(url, attempt + 1, cause, result),
+                () -> result.completeExceptionally(cause)
+            );
+        });
+    }
+
+    private CompletableFuture<String> hedgeFetch(String url) {
+        CompletableFuture<String> primary = timeFetch(url);
+        long delay = this.hedgeDelay;
+
+        if (delay < 0 || primary.isDone()) {
+            return primary;
+        }
+
+        /*
+         * The counter holds the number of pending requests, or -1 once a response has won. The result fails only
+         * when no request is pending anymore, and the hedge is sent only while the primary request is pending.
+         */
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+
+        primary.whenComplete((body, e) -> completeHedged(result, pending, body, e, false));
+
+        runLater(this.latencies.percentile95(delay), () -> {
+            if (result.isDone() || pending.getAndUpdate(count -> (count <= 0) ? count : count + 1) <= 0) {
+                return;
+            }
+
+            this.hedges.increment();
+            timeFetch(url).whenComplete((body, e) -> completeHedged(result, pending, body, e, true));
+        }, () -> {
+            // the primary request still decides when the executor doesn't take the hedge
+        });
+
+        return result;
+    }
+
+    /**
+     * Run the task on the executor after the delay, or the fallback when the executor doesn't take it
+     * (e.g. rejects it). The delay scheduler only hands the task over, so it never runs a fetch itself.
+     */
+    private void runLater(long delay, Runnable task, Runnable fallback) {
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, Runnable::run).execute(() -> {
+            try {
+                this.executor.execute(task);
+            } catch (RuntimeException e) {
+                fallback.run();
+            }
+        });
+    }
+
+    private void completeHedged(
+        CompletableFuture<String> result,
+        AtomicInteger pending,
+        String body,
+        Throwable e,
+        boolean hedge
+    ) {
+        if (e == null) {
+            if (pending.getAndSet(-1) < 0) {
+                return;
+            }
+
+            if (hedge) {
+                this.hedgeWins.increment();
+            }
+
+            result.complete(body);
+        } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private CompletableFuture<String> timeFetch(String url) {
+        long start = System.nanoTime();
+        CompletableFuture<String> response;
+
+        try {
+            response = this.fetcher.fetchAsync(url);
+        } catch (RuntimeException e) {
+            /*
+             * The upstream should report its failures through the future, so a thrown exception
+             * is an upstream failure like any other.
+             */
+            response = CompletableFuture.failedFuture(new IOException(e.getMessage(), e));
+        }
+
+        return response
+            .thenApply(body -> {
+                this.latencies.record(System.nanoTime() - start);
+                return body;
+            });
+    }
+
+    private boolean mayRetry(int attempt) {
+        return attempt + 1 < this.maxAttempts && this.retryBudget.tryWithdraw();
+    }
+
+    private long calculateBackoff(int attempt) {
+        /*
+         * The full jitter spreads the retries of the concurrent requests, so they don't hit the upstream at once.
+         */
+        long ceiling = Math.min(this.backoff << Math.min(attempt, 20), MAX_BACKOFF.toNanos());
+
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private CircuitOpenException createCircuitOpenException(Throwable lastFailure) {
+        return new CircuitOpenException("the circuit breaker is open", lastFailure);
+    }
+
+    private Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+
+        return e;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return this.circuitBreaker;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return this.retryBudget;
+    }
+
+    public long getHedges() {
+        return this.hedges.sum();
+    }
+
+    public long getHedgeWins() {
+        return this.hedgeWins.sum();
+    }
+
+    /**
+     * A fixed window of the recent latencies. The percentile is recomputed after every few records,
+     * so the requests don't sort the window.
+     */
+    private static class LatencyWindow {
+        private static final int SIZE = 128;
+        private static final int MIN_SAMPLES = 20;
+        private static final int RECOMPUTE_INTERVAL = 16;
+
+        private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+
+        private final AtomicLong count = new AtomicLong();
+
+        private volatile long percentile95 = -1;
+
+        void record(long latency) {
+            long index = this.count.getAndIncrement();
+            this.samples.set((int) (index % SIZE), latency);
+
+            if (index + 1 >= MIN_SAMPLES && (index + 1) % RECOMPUTE_INTERVAL == 0) {
+                this.percentile95 = compute(Math.min(index + 1, SIZE));
+            }
+        }
+
+        long percentile95(long fallback) {
+            long value = this.percentile95;
+
+            return (value < 0) ? fallback : value;
+        }
+
+        private long compute(long size) {
+            long[] sorted = new long[(int) size];
+
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = this.samples.get(i);
+            }
+
+            Arrays.sort(sorted);
+
+            return sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package factchecker.FetchService;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded budget of retries shared by all requests. Every request deposits a fraction of a token,
+ * and every retry withdraws a whole token, so the retries cannot exceed the ratio of the requests
+ * (plus the capacity of the budget) and a struggling upstream is not flooded with them.
+ */
+public class RetryBudget {
+    public static final double DEFAULT_RATIO = 0.2;
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+
+    private final long capacity;
+
+    private final AtomicLong balance;
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder exhaustions = new LongAdder();
+
+    public RetryBudget() {
+        this(DEFAULT_RATIO, DEFAULT_CAPACITY);
+    }
+
+    public RetryBudget(double ratio, int capacity) {
+        if (ratio < 0 || capacity < 0) {
+            throw new IllegalArgumentException("The ratio and the capacity cannot be negative.");
+        }
+
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Record a request.
+     */
+    public void deposit() {
+        /*
+         * A full budget is the usual state of a healthy upstream, so we avoid writing to the shared counter.
+         */
+        if (this.balance.get() < this.capacity) {
+            this.balance.accumulateAndGet(this.deposit, (current, deposit) -> Math.min(current + deposit, this.capacity));
+        }
+    }
+
+    /**
+     * Take a token for a retry, or return false when the budget is exhausted.
+     */
+    public boolean tryWithdraw() {
+        long current;
+
+        while ((current = this.balance.get()) >= TOKEN) {
+            if (this.balance.compareAndSet(current, current - TOKEN)) {
+                this.retries.increment();
+                return true;
+            }
+        }
+
+        this.exhaustions.increment();
+        return false;
+    }
+
+    public double getBalance() {
+        return (double) this.balance.get() / TOKEN;
+    }
+
+    public long getRetries() {
+        return this.retries.sum();
+    }
+
+    public long getExhaustions() {
+        return this.exhaustions.sum();
+    }
+}
@@ -0,0 +1,133 @@
+package factchecker.FetchService;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Fetcher decorator which merges the concurrent fetches of the same url into a single upstream request.
+ *
+ * The first fetch of a url goes to the upstream, and the fetches which arrive while it is in flight wait
+ * for its response instead of sending their own requests. Note that the merged fetches get the same response.
+ * Once the response arrives, the next fetch of the url goes to the upstream again.
+ */
+public class SingleFlightFetcher implements Fetcher {
+    private final Fetcher fetcher;
+
+    private final ConcurrentHashMap<String, CompletableFuture<String>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlightFetcher(Fetcher fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    @Override
+    public String fetch(String url) throws IOException, InterruptedException {
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = this.flights.putIfAbsent(url, flight);
+
+        if (existing != null) {
+            this.coalesced.increment();
+            return await(existing);
+        }
+
+        this.requests.increment();
+        String body = null;
+        Throwable failure = null;
+
+        /*
+         * The flight is removed before it completes, so a fetch which comes after the response
+         * never gets the finished flight. It is completed whatever happens (even an Error),
+         * so the merged fetches never wait for a flight which has crashed.
+         */
+        try {
+            body = this.fetcher.fetch(url);
+
+            return body;
+        } catch (Throwable e) {
+            failure = e;
+
+            throw e;
+        } finally {
+            this.flights.remove(url, flight);
+
+            if (failure == null) {
+                flight.complete(body);
+            } else {
+                flight.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private String await(CompletableFuture<String> flight) throws IOException, InterruptedException {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            /*
+             * The interruption of the leading fetch is not an interruption of this thread.
+             */
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = this.flights.putIfAbsent(url, flight);
+
+        if (existing != null) {
+            this.coalesced.increment();
+
+            /*
+             * A copy prevents a caller from cancelling the flight of the others.
+             */
+            return existing.copy();
+        }
+
+        this.requests.increment();
+
+        try {
+            this.fetcher.fetchAsync(url)
+                .whenComplete((body, e) -> {
+                    this.flights.remove(url, flight);
+
+                    if (e == null) {
+                        flight.complete(body);
+                    } else {
+                        flight.completeExceptionally(e);
+                    }
+                });
+        } catch (RuntimeException | Error e) {
+            /*
+             * The upstream has failed before returning a future, so no callback will ever finish the flight.
+             */
+            this.flights.remove(url, flight);
+            flight.completeExceptionally(e);
+        }
+
+        return flight.copy();
+    }
+
+    public long getRequests() {
+        return this.requests.sum();
+    }
+
+    public long getCoalesced() {
+        return this.coalesced.sum();
+    }
+}
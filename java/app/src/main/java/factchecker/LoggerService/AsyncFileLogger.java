@@ -0,0 +1,345 @@
+package factchecker.LoggerService;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A Logger which appends the messages to a file without making the callers wait for the disk.
+ *
+ * The callers put the records into a preallocated ring buffer (a bounded lock-free multi-producer queue),
+ * and a single background writer drains it in batches through a buffered FileChannel. When the ring is full,
+ * a record is either dropped or the caller waits for a free slot, depending on the policy.
+ * The messages below the logger level are discarded before they touch the ring.
+ *
+ * When the file cannot be written, the writer stops and counts the failure, and the later messages
+ * are dropped (whatever the policy), so the callers never wait for a writer which is gone.
+ */
+public class AsyncFileLogger implements Logger, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    public enum Policy {
+        DROP,
+        BLOCK
+    }
+
+    private static final long IDLE_PARK = 100_000_000;
+    private static final long FULL_PARK = 50_000;
+
+    private final FileChannel channel;
+
+    private final Policy policy;
+
+    private final int mask;
+
+    /*
+     * A slot is free for the producer at position p when its sequence is p,
+     * and it is ready for the writer when its sequence is p + 1.
+     */
+    private final AtomicLongArray sequences;
+
+    private final Level[] levels;
+
+    private final String[] messages;
+
+    private final long[] timestamps;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private final Thread writer;
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile int threshold = Level.INFO.getNumericCode();
+
+    private volatile boolean idle = false;
+
+    private volatile boolean closed = false;
+
+    private volatile boolean stopped = false;
+
+    private long head = 0;
+
+    /*
+     * The number of the lines in the buffer, which are counted as written only once they are flushed.
+     */
+    private int buffered = 0;
+
+    public AsyncFileLogger(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY, Policy.DROP);
+    }
+
+    public AsyncFileLogger(Path file, int capacity, Policy policy) throws IOException {
+        this(
+            FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND),
+            capacity,
+            policy
+        );
+    }
+
+    AsyncFileLogger(FileChannel channel, int capacity, Policy policy) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity should be a power of two.");
+        }
+
+        this.channel = channel;
+        this.policy = policy;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.levels = new Level[capacity];
+        this.messages = new String[capacity];
+        this.timestamps = new long[capacity];
+
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+
+        this.writer = new Thread(this::write, "logger-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void fatal(String message) {
+        log(Level.FATAL, message);
+    }
+
+    @Override
+    public void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    @Override
+    public void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    @Override
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    @Override
+    public void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    @Override
+    public void trace(String message) {
+        log(Level.TRACE, message);
+    }
+
+    @Override
+    public void setLevel(Level level) {
+        this.threshold = level.getNumericCode();
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return level.getNumericCode() <= this.threshold && level != Level.OFF;
+    }
+
+    @Override
+    public void log(Level level, String message) {
+        if (!isEnabled(level) || this.closed) {
+            return;
+        }
+
+        if (this.stopped) {
+            this.dropped.increment();
+            return;
+        }
+
+        while (!tryPublish(level, message)) {
+            if (this.policy == Policy.DROP || this.closed || this.stopped) {
+                this.dropped.increment();
+                return;
+            }
+
+            LockSupport.unpark(this.writer);
+            LockSupport.parkNanos(FULL_PARK);
+        }
+
+        if (this.idle) {
+            LockSupport.unpark(this.writer);
+        }
+    }
+
+    private boolean tryPublish(Level level, String message) {
+        while (true) {
+            long position = this.tail.get();
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+
+            if (difference < 0) {
+                return false;
+            }
+
+            if (difference == 0 && this.tail.compareAndSet(position, position + 1)) {
+                this.levels[index] = level;
+                this.messages[index] = message;
+                this.timestamps[index] = System.currentTimeMillis();
+                this.sequences.set(index, position + 1);
+
+                return true;
+            }
+        }
+    }
+
+    private void write() {
+        try {
+            while (true) {
+                boolean wasClosed = this.closed;
+
+                if (drain() > 0) {
+                    continue;
+                }
+
+                flush();
+
+                if (wasClosed) {
+                    break;
+                }
+
+                /*
+                 * The producers wake the writer up only when it announces the idleness,
+                 * so the ring is checked once again after the announcement.
+                 */
+                this.idle = true;
+
+                if (!isReady()) {
+                    LockSupport.parkNanos(IDLE_PARK);
+                }
+
+                this.idle = false;
+            }
+        } catch (IOException | RuntimeException e) {
+            /*
+             * There is no other place to report the failure of the logger itself, so it is only counted.
+             */
+            this.failures.increment();
+        } finally {
+            this.stopped = true;
+            closeChannel();
+
+            /*
+             * The ring is sealed, so no producer can claim a slot anymore, and the messages
+             * which are left in the buffer or in the ring are counted as dropped.
+             */
+            long end = this.tail.getAndSet(Long.MAX_VALUE);
+            this.dropped.add(this.buffered + Math.max(0, end - this.head));
+            this.buffered = 0;
+        }
+    }
+
+    private boolean isReady() {
+        return this.sequences.get((int) (this.head & this.mask)) == this.head + 1;
+    }
+
+    private int drain() throws IOException {
+        int count = 0;
+
+        while (isReady()) {
+            int index = (int) (this.head & this.mask);
+            byte[] line = formatLine(this.levels[index], this.messages[index], this.timestamps[index]);
+
+            this.messages[index] = null;
+            this.sequences.set(index, this.head + this.mask + 1);
+            this.head++;
+
+            append(line);
+            count++;
+        }
+
+        return count;
+    }
+
+    private byte[] formatLine(Level level, String message, long timestamp) {
+        return String.format("%s [%s] %s%n", Instant.ofEpochMilli(timestamp), level.getName(), message)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void append(byte[] line) throws IOException {
+        if (line.length > this.buffer.remaining()) {
+            flush();
+        }
+
+        if (line.length > this.buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(line));
+            this.written.increment();
+            return;
+        }
+
+        this.buffer.put(line);
+        this.buffered++;
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        writeFully(this.buffer);
+        this.buffer.clear();
+        this.written.add(this.buffered);
+        this.buffered = 0;
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            this.channel.write(bytes);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            this.failures.increment();
+        }
+    }
+
+    public long getWritten() {
+        return this.written.sum();
+    }
+
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Return the number of the failures of the file, i.e. the write which has stopped the writer, or the close.
+     */
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Stop accepting the messages, write the pending ones, and close the file. When the caller is interrupted,
+     * it doesn't wait for the writer anymore (the writer still finishes in the background), and the interrupt
+     * status is restored.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+
+        try {
+            this.writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
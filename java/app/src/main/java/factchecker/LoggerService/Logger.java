@@ -1,5 +1,7 @@
 package factchecker.LoggerService;
 
+import java.util.function.Supplier;
+
 public interface Logger {
     public enum Level {
         OFF(0, 0),
@@ -70,4 +72,192 @@ public interface Logger {
      * Log a message with a specific level.
      */
     void log(Level level, String message);
+
+    /**
+     * Return whether the messages of a specific level are written. The default implementation writes all of them.
+     */
+    default boolean isEnabled(Level level) {
+        return true;
+    }
+
+    /**
+     * Log a message with a specific level. The message is built only when the level is enabled.
+     */
+    default void log(Level level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            log(level, message.get());
+        }
+    }
+
+    /**
+     * Log a message with a specific level.
+     * The message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void log(Level level, String format, Object... args) {
+        if (isEnabled(level)) {
+            log(level, String.format(format, args));
+        }
+    }
+
+    /**
+     * FATAL level: the message is built only when the level is enabled.
+     */
+    default void fatal(Supplier<String> message) {
+        if (isEnabled(Level.FATAL)) {
+            fatal(message.get());
+        }
+    }
+
+    /**
+     * FATAL level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void fatal(String format, Object arg) {
+        if (isEnabled(Level.FATAL)) {
+            fatal(String.format(format, arg));
+        }
+    }
+
+    /**
+     * FATAL level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void fatal(String format, Object firstArg, Object secondArg) {
+        if (isEnabled(Level.FATAL)) {
+            fatal(String.format(format, firstArg, secondArg));
+        }
+    }
+
+    /**
+     * ERROR level: the message is built only when the level is enabled.
+     */
+    default void error(Supplier<String> message) {
+        if (isEnabled(Level.ERROR)) {
+            error(message.get());
+        }
+    }
+
+    /**
+     * ERROR level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void error(String format, Object arg) {
+        if (isEnabled(Level.ERROR)) {
+            error(String.format(format, arg));
+        }
+    }
+
+    /**
+     * ERROR level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void error(String format, Object firstArg, Object secondArg) {
+        if (isEnabled(Level.ERROR)) {
+            error(String.format(format, firstArg, secondArg));
+        }
+    }
+
+    /**
+     * WARN level: the message is built only when the level is enabled.
+     */
+    default void warn(Supplier<String> message) {
+        if (isEnabled(Level.WARN)) {
+            warn(message.get());
+        }
+    }
+
+    /**
+     * WARN level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void warn(String format, Object arg) {
+        if (isEnabled(Level.WARN)) {
+            warn(String.format(format, arg));
+        }
+    }
+
+    /**
+     * WARN level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void warn(String format, Object firstArg, Object secondArg) {
+        if (isEnabled(Level.WARN)) {
+            warn(String.format(format, firstArg, secondArg));
+        }
+    }
+
+    /**
+     * INFO level: the message is built only when the level is enabled.
+     */
+    default void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            info(message.get());
+        }
+    }
+
+    /**
+     * INFO level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void info(String format, Object arg) {
+        if (isEnabled(Level.INFO)) {
+            info(String.format(format, arg));
+        }
+    }
+
+    /**
+     * INFO level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void info(String format, Object firstArg, Object secondArg) {
+        if (isEnabled(Level.INFO)) {
+            info(String.format(format, firstArg, secondArg));
+        }
+    }
+
+    /**
+     * DEBUG level: the message is built only when the level is enabled.
+     */
+    default void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(message.get());
+        }
+    }
+
+    /**
+     * DEBUG level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void debug(String format, Object arg) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(String.format(format, arg));
+        }
+    }
+
+    /**
+     * DEBUG level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void debug(String format, Object firstArg, Object secondArg) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(String.format(format, firstArg, secondArg));
+        }
+    }
+
+    /**
+     * TRACE level: the message is built only when the level is enabled.
+     */
+    default void trace(Supplier<String> message) {
+        if (isEnabled(Level.TRACE)) {
+            trace(message.get());
+        }
+    }
+
+    /**
+     * TRACE level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void trace(String format, Object arg) {
+        if (isEnabled(Level.TRACE)) {
+            trace(String.format(format, arg));
+        }
+    }
+
+    /**
+     * TRACE level: the message is formatted (with {@link String#format}) only when the level is enabled.
+     */
+    default void trace(String format, Object firstArg, Object secondArg) {
+        if (isEnabled(Level.TRACE)) {
+            trace(String.format(format, firstArg, secondArg));
+        }
+    }
 }
@@ -29,6 +29,11 @@ public class NullLogger implements Logger {
     public void setLevel(Level level) {
     }
 
+    @Override
+    public boolean isEnabled(Level level) {
+        return false;
+    }
+
     @Override
     public void log(Level level, String message) {
     }
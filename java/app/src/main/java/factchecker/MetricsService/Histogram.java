@@ -0,0 +1,165 @@
+package factchecker.MetricsService;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of non-negative values (e.g. latencies in nanoseconds) with logarithmic buckets.
+ *
+ * Every power of two is split into 8 linear sub-buckets, so a percentile is reported with a relative
+ * error of 12.5% at most, while the whole range of long values takes 488 counters.
+ * A record is a couple of shifts and a single atomic increment, and doesn't allocate. The count, the mean
+ * and the maximum are derived from the buckets when they are read, with the same precision as the percentiles.
+ *
+ * The counters are striped: a thread increments the counters of its own stripe (chosen by the hash of its id),
+ * so the threads which record the same value don't contend for a single cache line. The stripes are summed on read.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    /*
+     * The stripes follow one another, so the same bucket of two stripes is BUCKETS counters apart.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKETS);
+
+    public void record(long value) {
+        this.counts.incrementAndGet(stripe() * BUCKETS + index(Math.max(value, 0)));
+    }
+
+    public long getCount() {
+        long count = 0;
+
+        for (long bucketCount : snapshot()) {
+            count += bucketCount;
+        }
+
+        return count;
+    }
+
+    /**
+     * Return the upper bound of the highest bucket with a record.
+     */
+    public long getMax() {
+        return getMax(snapshot());
+    }
+
+    private long getMax(long[] counts) {
+        for (int index = BUCKETS - 1; index >= 0; index--) {
+            if (counts[index] > 0) {
+                return upperBound(index);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Return the mean of the records, where every record counts as the middle of its bucket.
+     */
+    public double getMean() {
+        long[] counts = snapshot();
+        long count = 0;
+        double sum = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            long bucketCount = counts[index];
+
+            if (bucketCount > 0) {
+                count += bucketCount;
+                sum += bucketCount * (lowerBound(index) / 2.0 + upperBound(index) / 2.0);
+            }
+        }
+
+        return (count == 0) ? 0 : sum / count;
+    }
+
+    /**
+     * Return the value below which the percentage of the records falls, e.g. percentile(99.9).
+     * The value is the upper bound of its bucket.
+     */
+    public long percentile(double percentage) {
+        long[] counts = snapshot();
+        long total = 0;
+
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentage / 100));
+        long seen = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += counts[index];
+
+            if (seen >= rank) {
+                return upperBound(index);
+            }
+        }
+
+        return getMax(counts);
+    }
+
+    /**
+     * Return the counts of the buckets, summed over the stripes.
+     */
+    private long[] snapshot() {
+        long[] counts = new long[BUCKETS];
+
+        for (int offset = 0; offset < STRIPES * BUCKETS; offset += BUCKETS) {
+            for (int index = 0; index < BUCKETS; index++) {
+                counts[index] += this.counts.get(offset + index);
+            }
+        }
+
+        return counts;
+    }
+
+    private static int stripe() {
+        /*
+         * The ids of the threads are sequential, so they are mixed to spread the neighbours over the stripes.
+         */
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash >>> 32) & (STRIPES - 1);
+    }
+
+    /**
+     * Return the smallest power of two which is not below the number of processors, up to 16 stripes.
+     */
+    static int stripes(int processors) {
+        return Math.min(Integer.highestOneBit(Math.max(processors, 1) * 2 - 1), 16);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (index / SUB_BUCKETS - 1);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        return lowerBound(index) + (1L << (index / SUB_BUCKETS - 1)) - 1;
+    }
+}
@@ -0,0 +1,98 @@
+package factchecker.MetricsService;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A registry of named counters and histograms. The recorders are created on the first use and live
+ * as long as the registry, so the callers on a hot path should look a recorder up once and keep it.
+ *
+ * By convention, the histograms hold latencies in nanoseconds.
+ */
+public class Metrics {
+    public static final String DEFAULT_OBJECT_NAME = "factchecker:type=Metrics";
+
+    private static final Metrics GLOBAL = new Metrics();
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Return the registry which the services record into by default.
+     */
+    public static Metrics global() {
+        return GLOBAL;
+    }
+
+    public LongAdder counter(String name) {
+        LongAdder counter = this.counters.get(name);
+
+        return (counter != null) ? counter : this.counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public Histogram histogram(String name) {
+        Histogram histogram = this.histograms.get(name);
+
+        return (histogram != null) ? histogram : this.histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    LongAdder findCounter(String name) {
+        return this.counters.get(name);
+    }
+
+    Histogram findHistogram(String name) {
+        return this.histograms.get(name);
+    }
+
+    Map<String, LongAdder> getCounters() {
+        return new TreeMap<>(this.counters);
+    }
+
+    Map<String, Histogram> getHistograms() {
+        return new TreeMap<>(this.histograms);
+    }
+
+    /**
+     * Return a text dump of the metrics, one per line, sorted by name. The latencies are in microseconds.
+     */
+    public String dump() {
+        StringBuilder dump = new StringBuilder();
+
+        getCounters().forEach((name, counter) -> dump.append(String.format("%s %d%n", name, counter.sum())));
+        getHistograms().forEach((name, histogram) -> dump.append(String.format(
+            "%s count=%d mean=%.1fus p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus%n",
+            name,
+            histogram.getCount(),
+            histogram.getMean() / TimeUnit.MICROSECONDS.toNanos(1),
+            toMicros(histogram.percentile(50)),
+            toMicros(histogram.percentile(99)),
+            toMicros(histogram.percentile(99.9)),
+            toMicros(histogram.getMax())
+        )));
+
+        return dump.toString();
+    }
+
+    private double toMicros(long nanos) {
+        return (double) nanos / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    /**
+     * Expose the metrics through the platform MBean server. A registry registered already is left as is.
+     */
+    public void registerMBean(String objectName) throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(this), new ObjectName(objectName));
+        } catch (InstanceAlreadyExistsException e) {
+            // the registry is exposed already
+        }
+    }
+}
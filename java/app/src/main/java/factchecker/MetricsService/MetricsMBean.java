@@ -0,0 +1,120 @@
+package factchecker.MetricsService;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A read-only MBean view of a registry. A counter is exposed as an attribute with its name, and a histogram
+ * as the name.count, name.p50, name.p99, name.p999 and name.max attributes (in nanoseconds).
+ * The set of the attributes follows the registry, because the recorders are created on the first use.
+ */
+class MetricsMBean implements DynamicMBean {
+    private static final String[] STATISTICS = {"count", "p50", "p99", "p999", "max"};
+
+    private final Metrics metrics;
+
+    MetricsMBean(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        LongAdder counter = this.metrics.findCounter(attribute);
+
+        if (counter != null) {
+            return counter.sum();
+        }
+
+        int separator = attribute.lastIndexOf('.');
+        Histogram histogram = (separator < 0) ? null : this.metrics.findHistogram(attribute.substring(0, separator));
+
+        if (histogram != null) {
+            switch (attribute.substring(separator + 1)) {
+                case "count":
+                    return histogram.getCount();
+                case "p50":
+                    return histogram.percentile(50);
+                case "p99":
+                    return histogram.percentile(99);
+                case "p999":
+                    return histogram.percentile(99.9);
+                case "max":
+                    return histogram.getMax();
+                default:
+                    break;
+            }
+        }
+
+        throw new AttributeNotFoundException(String.format("The %s metric doesn't exist.", attribute));
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                // the missing attributes are skipped, as the interface requires
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("The metrics are read-only.");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if (actionName.equals("dump")) {
+            return this.metrics.dump();
+        }
+
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+
+        for (String name : this.metrics.getCounters().keySet()) {
+            attributes.add(new MBeanAttributeInfo(name, "long", "A counter.", true, false, false));
+        }
+
+        for (String name : this.metrics.getHistograms().keySet()) {
+            for (String statistic : STATISTICS) {
+                attributes.add(new MBeanAttributeInfo(name + "." + statistic, "long", "A histogram statistic.", true, false, false));
+            }
+        }
+
+        return new MBeanInfo(
+            Metrics.class.getName(),
+            "The counters and the latency histograms (in nanoseconds) of the fact checker.",
+            attributes.toArray(new MBeanAttributeInfo[0]),
+            null,
+            new MBeanOperationInfo[] {
+                new MBeanOperationInfo("dump", "Return a text dump of the metrics.", new MBeanParameterInfo[0], "java.lang.String", MBeanOperationInfo.INFO)
+            },
+            null
+        );
+    }
+}
@@ -0,0 +1,321 @@
+package factchecker.NotifierService;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Notifier decorator which sends the notifications in the background, so the caller only pays for an enqueue.
+ *
+ * Every service has its own bounded queue and its own workers (a bulkhead), so a slow service delays
+ * only its own notifications. A notification is dropped when the queue of its service is full.
+ * A delivery which takes longer than the timeout is interrupted.
+ *
+ * The number of the services is limited (DEFAULT_MAX_SERVICES by default), and the notifications for the services
+ * above the limit are dropped. The idle workers of a service are stopped after WORKER_KEEP_ALIVE.
+ */
+public class AsyncNotifier implements Notifier, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    public static final int DEFAULT_MAX_SERVICES = 16;
+    public static final Duration WORKER_KEEP_ALIVE = Duration.ofSeconds(60);
+
+    private final Notifier notifier;
+
+    private final int capacity;
+
+    private final int parallelism;
+
+    private final long timeout;
+
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final AtomicInteger services = new AtomicInteger();
+
+    private final ScheduledExecutorService watchdog;
+
+    private final LongAdder delivered = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private volatile int maxServices = DEFAULT_MAX_SERVICES;
+
+    private volatile boolean closed = false;
+
+    public AsyncNotifier(Notifier notifier) {
+        this(notifier, DEFAULT_CAPACITY, DEFAULT_PARALLELISM, DEFAULT_TIMEOUT);
+    }
+
+    public AsyncNotifier(Notifier notifier, int capacity, int parallelism, Duration timeout) {
+        if (capacity < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("The capacity and the parallelism should be positive numbers.");
+        }
+
+        this.notifier = notifier;
+        this.capacity = capacity;
+        this.parallelism = parallelism;
+        this.timeout = timeout.toNanos();
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notifier-watchdog");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    @Override
+    public void notify(String service, String message) {
+        if (this.closed) {
+            this.dropped.increment();
+            return;
+        }
+
+        Channel channel = this.channels.get(service);
+
+        if (channel == null) {
+            channel = this.channels.computeIfAbsent(service, this::openChannel);
+
+            if (channel == null) {
+                this.dropped.increment();
+                return;
+            }
+
+            /*
+             * The notifier might have been closed while the channel was created,
+             * in which case the close has not seen the channel, so it is shut down here.
+             */
+            if (this.closed) {
+                channel.executor.shutdown();
+                this.dropped.increment();
+                return;
+            }
+        }
+
+        channel.enqueue(message);
+    }
+
+    /**
+     * Set the maximum number of the services which have their own queue and workers.
+     */
+    public void setMaxServices(int maxServices) {
+        if (maxServices < 1) {
+            throw new IllegalArgumentException("The number of services should be a positive number.");
+        }
+
+        this.maxServices = maxServices;
+    }
+
+    private Channel openChannel(String service) {
+        if (this.services.incrementAndGet() > this.maxServices) {
+            this.services.decrementAndGet();
+            return null;
+        }
+
+        return new Channel(service);
+    }
+
+    public long getDelivered() {
+        return this.delivered.sum();
+    }
+
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    public long getFailed() {
+        return this.failed.sum();
+    }
+
+    public long getTimeouts() {
+        return this.timeouts.sum();
+    }
+
+    /**
+     * Stop accepting the notifications, and wait (up to the timeout in total, whatever the number of the services)
+     * for the queued ones to be delivered. When the caller is interrupted, it stops waiting,
+     * and the interrupt status is restored.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+
+        for (Channel channel : this.channels.values()) {
+            channel.executor.shutdown();
+        }
+
+        long deadline = System.nanoTime() + this.timeout;
+
+        try {
+            for (Channel channel : this.channels.values()) {
+                channel.executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.watchdog.shutdownNow();
+        }
+    }
+
+    private class Channel {
+        private final String service;
+
+        private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicInteger workers = new AtomicInteger();
+
+        private final ThreadPoolExecutor executor;
+
+        private Channel(String service) {
+            AtomicInteger counter = new AtomicInteger();
+
+            this.service = service;
+            this.executor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                WORKER_KEEP_ALIVE.toNanos(),
+                TimeUnit.NANOSECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notifier-" + service + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                }
+            );
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        void enqueue(String message) {
+            if (!reserveSlot()) {
+                dropped.increment();
+                return;
+            }
+
+            this.queue.offer(message);
+            startWorkers();
+        }
+
+        private boolean reserveSlot() {
+            int current;
+
+            while ((current = this.size.get()) < capacity) {
+                if (this.size.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void startWorkers() {
+            int running;
+
+            while ((running = this.workers.get()) < parallelism && !this.queue.isEmpty()) {
+                if (!this.workers.compareAndSet(running, running + 1)) {
+                    continue;
+                }
+
+                try {
+                    this.executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    /*
+                     * The notifier is closed, so the queued notifications are never delivered.
+                     */
+                    this.workers.decrementAndGet();
+                    discard();
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            String message;
+
+            while ((message = this.queue.poll()) != null) {
+                this.size.decrementAndGet();
+                deliver(message);
+            }
+
+            this.workers.decrementAndGet();
+
+            /*
+             * A notification might have been queued while the worker was stopping, so we check it once again.
+             */
+            if (!this.queue.isEmpty()) {
+                startWorkers();
+            }
+        }
+
+        private void discard() {
+            while (this.queue.poll() != null) {
+                this.size.decrementAndGet();
+                dropped.increment();
+            }
+        }
+
+        private void deliver(String message) {
+            Delivery delivery = new Delivery(Thread.currentThread());
+            ScheduledFuture<?> alarm = watchdog.schedule(delivery::expire, timeout, TimeUnit.NANOSECONDS);
+
+            try {
+                notifier.notify(this.service, message);
+                delivered.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+            } finally {
+                alarm.cancel(false);
+
+                if (delivery.finish()) {
+                    /*
+                     * The interruption was meant for the expired delivery, not for the next one.
+                     */
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    private class Delivery {
+        private final Thread thread;
+
+        private boolean done = false;
+
+        private Delivery(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized void expire() {
+            if (!this.done) {
+                this.done = true;
+                timeouts.increment();
+                this.thread.interrupt();
+            }
+        }
+
+        /**
+         * Return whether the delivery has expired.
+         */
+        synchronized boolean finish() {
+            boolean expired = this.done;
+            this.done = true;
+
+            return expired;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package factchecker.NotifierService;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A Notifier decorator which suppresses the storms of identical notifications.
+ *
+ * The first notification of a service and a message is sent at once, the identical ones within the window
+ * are only counted. When the window is over, a single summary with the count of the suppressed notifications
+ * is sent. The table of the fingerprints is bounded: when it is full, a new notification is sent as is.
+ *
+ * By default, the fingerprint is the first sentence of the message, so the messages which embed variable details
+ * after it (e.g. the original JSON) are grouped together. Other messages can be grouped with a custom fingerprint.
+ *
+ * A summary which the decorated notifier fails to send is counted, and the sweeper keeps running.
+ */
+public class DeduplicatingNotifier implements Notifier, AutoCloseable {
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Notifier notifier;
+
+    private final long window;
+
+    private final int capacity;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Fingerprint, Occurrences> fingerprints = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService sweeper;
+
+    private volatile Function<String, String> fingerprint = DeduplicatingNotifier::firstSentence;
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder suppressed = new LongAdder();
+
+    private final LongAdder summaries = new LongAdder();
+
+    private final LongAdder untracked = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    public DeduplicatingNotifier(Notifier notifier) {
+        this(notifier, DEFAULT_WINDOW, DEFAULT_CAPACITY);
+    }
+
+    public DeduplicatingNotifier(Notifier notifier, Duration window, int capacity) {
+        this(notifier, window, capacity, System::nanoTime);
+    }
+
+    DeduplicatingNotifier(Notifier notifier, Duration window, int capacity, LongSupplier clock) {
+        if (window.isNegative() || window.isZero() || capacity < 1) {
+            throw new IllegalArgumentException("The window and the capacity should be positive.");
+        }
+
+        this.notifier = notifier;
+        this.window = window.toNanos();
+        this.capacity = capacity;
+        this.clock = clock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notifier-sweeper");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::flush, this.window, this.window, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Set a function which maps a message to the part that identifies the identical notifications,
+     * e.g. Function.identity() to group only the identical messages.
+     */
+    public void setFingerprint(Function<String, String> fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public void notify(String service, String message) {
+        Fingerprint fingerprint = new Fingerprint(service, this.fingerprint.apply(message));
+
+        while (true) {
+            long now = this.clock.getAsLong();
+            Occurrences occurrences = this.fingerprints.get(fingerprint);
+
+            if (occurrences != null && now - occurrences.startedAt < this.window) {
+                if (occurrences.suppress()) {
+                    this.suppressed.increment();
+                    return;
+                }
+
+                /*
+                 * The window has just been summarized, so the notification starts a new one.
+                 */
+                continue;
+            }
+
+            if (occurrences != null) {
+                /*
+                 * The window is over, but the sweeper hasn't summarized it yet.
+                 */
+                summarize(fingerprint, occurrences);
+                continue;
+            }
+
+            if (this.fingerprints.size() >= this.capacity) {
+                this.untracked.increment();
+                send(service, message);
+                return;
+            }
+
+            if (this.fingerprints.putIfAbsent(fingerprint, new Occurrences(now, message)) == null) {
+                send(service, message);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Send the summaries of the finished windows, and forget their fingerprints.
+     */
+    public void flush() {
+        long now = this.clock.getAsLong();
+
+        for (Map.Entry<Fingerprint, Occurrences> entry : this.fingerprints.entrySet()) {
+            if (now - entry.getValue().startedAt >= this.window) {
+                summarize(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void summarize(Fingerprint fingerprint, Occurrences occurrences) {
+        /*
+         * Only the thread which removes the fingerprint sends its summary.
+         */
+        if (!this.fingerprints.remove(fingerprint, occurrences)) {
+            return;
+        }
+
+        long count = occurrences.retire();
+
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            send(
+                fingerprint.service,
+                String.format(
+                    "%s (repeated %d more time%s within %d seconds)",
+                    occurrences.message,
+                    count,
+                    (count != 1) ? "s" : "",
+                    TimeUnit.NANOSECONDS.toSeconds(this.window)
+                )
+            );
+            this.summaries.increment();
+        } catch (RuntimeException e) {
+            /*
+             * An exception would cancel the periodic sweeper, so the failed summary is only counted.
+             */
+            this.failures.increment();
+        }
+    }
+
+    /**
+     * Return the part of the message up to the end of its first sentence.
+     */
+    private static String firstSentence(String message) {
+        int end = message.indexOf(". ");
+
+        return (end < 0) ? message : message.substring(0, end);
+    }
+
+    private void send(String service, String message) {
+        this.sent.increment();
+        this.notifier.notify(service, message);
+    }
+
+    public long getSent() {
+        return this.sent.sum();
+    }
+
+    public long getSuppressed() {
+        return this.suppressed.sum();
+    }
+
+    public long getSummaries() {
+        return this.summaries.sum();
+    }
+
+    public long getUntracked() {
+        return this.untracked.sum();
+    }
+
+    /**
+     * Return the number of the summaries which the decorated notifier has failed to send.
+     */
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Stop the sweeper, and send the summaries of all windows, including the unfinished ones.
+     */
+    @Override
+    public void close() {
+        this.sweeper.shutdownNow();
+
+        for (Map.Entry<Fingerprint, Occurrences> entry : this.fingerprints.entrySet()) {
+            summarize(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static final class Fingerprint {
+        private final String service;
+
+        private final String message;
+
+        private final int hash;
+
+        private Fingerprint(String service, String message) {
+            this.service = service;
+            this.message = message;
+            this.hash = 31 * Objects.hashCode(service) + Objects.hashCode(message);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Fingerprint)) {
+                return false;
+            }
+
+            Fingerprint fingerprint = (Fingerprint) other;
+
+            return this.hash == fingerprint.hash
+                && Objects.equals(this.service, fingerprint.service)
+                && Objects.equals(this.message, fingerprint.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private static final class Occurrences {
+        private final long startedAt;
+
+        private final String message;
+
+        /*
+         * The count of the suppressed notifications, or -1 once the window is retired.
+         */
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Occurrences(long startedAt, String message) {
+            this.startedAt = startedAt;
+            this.message = message;
+        }
+
+        /**
+         * Count a suppressed notification, or return false when the window is already retired.
+         */
+        boolean suppress() {
+            long count;
+
+            do {
+                count = this.suppressed.get();
+
+                if (count < 0) {
+                    return false;
+                }
+            } while (!this.suppressed.compareAndSet(count, count + 1));
+
+            return true;
+        }
+
+        /**
+         * Retire the window and return its count, so no suppressed notification is counted after it.
+         */
+        long retire() {
+            return this.suppressed.getAndSet(-1);
+        }
+    }
+}
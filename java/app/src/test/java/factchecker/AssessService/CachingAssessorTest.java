@@ -0,0 +1,46 @@
+package factchecker.AssessService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class CachingAssessorTest {
+    @Test
+    void it_can_assess_a_sentence_as_the_original_assessor() {
+        CachingAssessor assessor = new CachingAssessor(DefaultAssessor.create());
+
+        assertSame(3, assessor.getScore("this is a short sentence with cat"));
+        assertSame("plausible", assessor.getOpinion("this is a short sentence with cat"));
+    }
+
+    @Test
+    void it_can_assess_a_repeated_sentence_once() {
+        Assessor assessorSpy = Mockito.spy(DefaultAssessor.create());
+
+        CachingAssessor assessor = new CachingAssessor(assessorSpy);
+        assessor.getScore("cat");
+        assessor.getOpinion("cat");
+        assessor.getScore("cat");
+
+        verify(assessorSpy, times(1)).assess("cat");
+        assertEquals(1, assessor.getMisses());
+        assertEquals(2, assessor.getHits());
+    }
+
+    @Test
+    void it_can_evict_the_oldest_sentence() {
+        Assessor assessorSpy = Mockito.spy(DefaultAssessor.create());
+
+        CachingAssessor assessor = new CachingAssessor(assessorSpy, 2);
+        assessor.getScore("first");
+        assessor.getScore("second");
+        assessor.getScore("third");
+        assessor.getScore("first");
+
+        verify(assessorSpy, times(2)).assess("first");
+        assertEquals(2, assessor.getEvictions());
+    }
+}
@@ -1,5 +1,6 @@
 package factchecker.AssessService;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 class DefaultAssessorTest {
@@ -62,4 +68,140 @@ class DefaultAssessorTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("provideSentencesWithAssessment")
+    void it_can_assess_a_sentence_at_once(String sentence, Integer score, String opinion) {
+        Assessment assessment = assessor.assess(sentence);
+
+        assertSame(score, assessment.getScore());
+        assertSame(opinion, assessment.getOpinion());
+    }
+
+    private static Stream<Arguments> provideSentencesWithAssessment() {
+        return Stream.of(
+            Arguments.of("", 0, "unassessable"),
+            Arguments.of("this is a short sentence without target", 1, "unreliable"),
+            Arguments.of("this is a short sentence with cat", 3, "plausible"),
+            Arguments.of("this is a long sentence with cat, cat, and cat " + "t".repeat(100), 5, "credible")
+        );
+    }
+
+    @Test
+    void it_can_assess_a_sentence_with_an_adapted_scorer() {
+        DefaultAssessor assessor = new DefaultAssessor();
+        assessor.setDecisiveScorer(Scorer.adapt(sentence -> Integer.valueOf(3)));
+
+        assertSame(3, assessor.getScore("any sentence"));
+        assertSame("believable", assessor.getOpinion("any sentence"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSentencesWithAssessment")
+    void it_can_assess_a_sentence_with_concurrent_scorers(String sentence, Integer score, String opinion) {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        DefaultAssessor assessor = DefaultAssessor.create();
+        assessor.setExecutor(executor, Duration.ofSeconds(5), 0);
+
+        Assessment assessment = assessor.assess(sentence);
+        executor.shutdown();
+
+        assertSame(score, assessment.getScore());
+        assertSame(opinion, assessment.getOpinion());
+    }
+
+    @Test
+    void it_can_use_the_fallback_score_for_a_late_scorer() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        DefaultAssessor assessor = new DefaultAssessor();
+        assessor.setDecisiveScorer(sentence -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 4;
+        });
+        assessor.setNormalScorer(new LengthScorer());
+        assessor.setExecutor(executor, Duration.ofMillis(50), 0);
+
+        Assessment assessment = assessor.assess("a sentence");
+        executor.shutdownNow();
+
+        assertSame(1, assessment.getScore());
+        assertSame("unreliable", assessment.getOpinion());
+    }
+
+    @Test
+    void it_can_use_the_fallback_score_for_a_rejected_scorer() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.shutdown();
+        DefaultAssessor assessor = DefaultAssessor.create();
+        assessor.setExecutor(executor, Duration.ofSeconds(5), 0);
+
+        Assessment assessment = assessor.assess("a sentence");
+        Assessment unscored = new DefaultAssessor().assess("a sentence");
+
+        assertSame(unscored.getScore(), assessment.getScore());
+        assertSame(unscored.getOpinion(), assessment.getOpinion());
+    }
+
+    @Test
+    void it_can_assess_without_a_timeout_or_an_executor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        DefaultAssessor assessor = DefaultAssessor.create();
+        assessor.setExecutor(executor, null, 0);
+        Assessment concurrent = assessor.assess("a sentence");
+        executor.shutdown();
+
+        assessor.setExecutor(null, null, 0);
+        Assessment sequential = assessor.assess("a sentence");
+
+        assertSame(sequential.getScore(), concurrent.getScore());
+        assertSame(sequential.getOpinion(), concurrent.getOpinion());
+    }
+
+    @Test
+    void it_can_assess_a_list_of_sentences() {
+        DefaultAssessor assessor = DefaultAssessor.create();
+
+        Assessments assessments = assessor.assessAll(List.of(
+            "",
+            "this is a short sentence without target",
+            "this is a short sentence with cat",
+            "this is a long sentence with cat, cat, and cat " + "t".repeat(100)
+        ));
+
+        assertEquals(4, assessments.size());
+        assertEquals(0, assessments.getScore(0));
+        assertSame("unassessable", assessments.getOpinion(0));
+        assertEquals(1, assessments.getOpinionOrdinal(1));
+        assertEquals(3, assessments.getScore(2));
+        assertSame("plausible", assessments.getOpinion(2));
+        assertEquals(5, assessments.getScore(3));
+        assertSame("credible", assessments.getOpinion(3));
+    }
+
+    @Test
+    void it_can_assess_a_stream_of_sentences_in_chunks() {
+        DefaultAssessor assessor = DefaultAssessor.create();
+        int number = DefaultAssessor.STREAM_CHUNK_SIZE * 2 + 1;
+
+        Assessments assessments = assessor.assessAll(
+            IntStream.range(0, number).mapToObj(index -> (index % 2 == 0) ? "" : "this is a short sentence with cat")
+        );
+
+        assertEquals(number, assessments.size());
+        assertEquals(0, assessments.getScore(0));
+        assertEquals(3, assessments.getScore(1));
+        assertEquals(0, assessments.getScore(number - 1));
+        assertSame("plausible", assessments.getOpinion(number - 2));
+    }
+
+    @Test
+    void it_can_give_the_highest_opinion_for_a_score_beyond_the_opinions() {
+        DefaultAssessor assessor = new DefaultAssessor();
+        assessor.setDecisiveScorer(sentence -> 10);
+
+        assertSame("credible", assessor.getOpinion("any sentence"));
+    }
 }
@@ -0,0 +1,83 @@
+package factchecker.AssessService;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+class DictionaryScorerTest {
+    @Test
+    void it_can_score_a_sentence_without_terms() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("cat", 1));
+
+        assertSame(0, scorer.score("this is a test sentence without target"));
+    }
+
+    @Test
+    void it_can_score_a_sentence_with_weighted_terms() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("cat", 1, "jaguar", 2));
+
+        assertSame(3, scorer.score("a jaguar is a cat"));
+    }
+
+    @Test
+    void it_can_score_overlapping_terms() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("cat", 1, "big cat", 2));
+
+        assertSame(3, scorer.score("a big cat"));
+    }
+
+    @Test
+    void it_can_fold_the_case() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("Cat", 1));
+
+        assertSame(2, scorer.score("CAT and cat"));
+    }
+
+    @Test
+    void it_can_keep_the_case() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("Cat", 1), false, true, WordScorer.MAX_SCORE);
+
+        assertSame(1, scorer.score("Cat and cat"));
+    }
+
+    @Test
+    void it_can_respect_word_boundaries() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("cat", 1));
+
+        assertSame(1, scorer.score("a concatenation of cats, and a cat"));
+    }
+
+    @Test
+    void it_can_ignore_word_boundaries() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("cat", 1), true, false, WordScorer.MAX_SCORE);
+
+        assertSame(3, scorer.score("a concatenation of cats, and a cat"));
+    }
+
+    @Test
+    void it_can_limit_the_score() {
+        DictionaryScorer scorer = new DictionaryScorer(Map.of("cat", 1));
+
+        assertSame(WordScorer.MAX_SCORE, scorer.score("cat cat cat cat cat cat"));
+    }
+
+    @Test
+    void it_can_load_a_dictionary_from_a_resource() throws IOException {
+        DictionaryScorer scorer = DictionaryScorer.fromResource("terms.txt");
+
+        assertSame(4, scorer.score("Jaguars are big cats, but a jaguar is a big cat"));
+    }
+
+    @Test
+    void it_cannot_load_a_dictionary_with_duplicated_terms() {
+        BufferedReader reader = new BufferedReader(new StringReader("cat 1\ncat 2"));
+
+        assertThrows(IllegalArgumentException.class, () -> DictionaryScorer.readTerms(reader));
+    }
+}
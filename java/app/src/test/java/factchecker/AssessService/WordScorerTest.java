@@ -41,4 +41,25 @@ class WordScorerTest {
 
         assertSame(4, scorer.calculateScore(sentence));
     }
+
+    @Test
+    void it_can_score_cats_inside_other_words_as_the_pattern_does() {
+        String sentence = "a concatenation of catcat";
+
+        assertSame(4, scorer.calculateScore(sentence));
+    }
+
+    @Test
+    void it_can_score_a_cat_at_the_end_of_a_sentence() {
+        String sentence = "ca cat";
+
+        assertSame(2, scorer.calculateScore(sentence));
+    }
+
+    @Test
+    void it_can_score_a_char_sequence() {
+        CharSequence sentence = new StringBuilder("a concatenation of cats and cat");
+
+        assertSame(4, scorer.score(sentence));
+    }
 }
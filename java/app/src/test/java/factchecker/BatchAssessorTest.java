@@ -0,0 +1,83 @@
+package factchecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import factchecker.AssessService.DefaultAssessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+class BatchAssessorTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void it_can_assess_a_file_of_plain_facts() throws IOException, InterruptedException {
+        Path input = write(
+            "this is a short sentence without target\n"
+                + "this is a short sentence with cat\r\n"
+                + "\n"
+                + "this is a short sentence with a cat, a chat, and caf\u00e9"
+        );
+        Path output = directory.resolve("output.txt");
+
+        long lines = new BatchAssessor(DefaultAssessor.create(), 2).assess(input, output);
+
+        assertEquals(4, lines);
+        assertEquals(
+            List.of("1\tunreliable", "3\tplausible", "0\tunassessable", "3\tplausible"),
+            Files.readAllLines(output)
+        );
+    }
+
+    @Test
+    void it_can_assess_a_file_of_json_facts() throws IOException, InterruptedException {
+        Path input = write(
+            "{\"fact\":\"Jaguars are the only big cats that don't roar.\",\"length\":46}\n"
+                + "{\"wrong\":\"test\"}\n"
+                + "{\n"
+        );
+        Path output = directory.resolve("output.txt");
+
+        long lines = new BatchAssessor(DefaultAssessor.create(), 1).assess(input, output);
+
+        assertEquals(3, lines);
+        assertEquals(List.of("3\tplausible", "-\terror", "-\terror"), Files.readAllLines(output));
+    }
+
+    @Test
+    void it_can_assess_an_empty_file() throws IOException, InterruptedException {
+        Path input = write("");
+        Path output = directory.resolve("output.txt");
+
+        long lines = new BatchAssessor(DefaultAssessor.create(), 1).assess(input, output);
+
+        assertEquals(0, lines);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void it_can_assess_a_file_with_more_results_than_the_buffers_hold() throws IOException, InterruptedException {
+        int number = BatchAssessor.MIN_CHUNK_SIZE * 3 / 2;
+        Path input = write("\n".repeat(number));
+        Path output = directory.resolve("output.txt");
+
+        long lines = new BatchAssessor(DefaultAssessor.create(), 2).assess(input, output);
+
+        assertEquals(number, lines);
+        assertEquals((long) number * "0\tunassessable\n".length(), Files.size(output));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("input.txt"), content);
+    }
+}
@@ -0,0 +1,70 @@
+package factchecker.CodecService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class JsonFactReaderTest {
+    @Test
+    void it_can_read_a_fact() {
+        String json = "{\"fact\":\"Jaguars are the only big cats that don't roar.\",\"length\":46}";
+
+        assertEquals("Jaguars are the only big cats that don't roar.", JsonFactReader.read(json));
+    }
+
+    @Test
+    void it_can_read_a_fact_after_other_fields() {
+        String json = "{ \"length\" : 3, \"tags\": [{\"fact\": \"nested\"}, \"}\"], \"fact\" : \"cat\" }";
+
+        assertEquals("cat", JsonFactReader.read(json));
+    }
+
+    @Test
+    void it_can_read_an_escaped_fact() {
+        String json = "{\"fact\":\"a \\\"cat\\\"\\n\\u00e9\"}";
+
+        assertEquals("a \"cat\"\n\u00e9", JsonFactReader.read(json));
+    }
+
+    @Test
+    void it_can_read_a_fact_from_utf8_bytes() {
+        ByteBuffer json = ByteBuffer.wrap("{\"fact\":\"caf\u00e9\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("caf\u00e9", JsonFactReader.read(json));
+    }
+
+    @Test
+    void it_can_report_a_missing_fact() {
+        assertNull(JsonFactReader.read("{\"wrong\":\"test\"}"));
+        assertNull(JsonFactReader.read("{}"));
+    }
+
+    @Test
+    void it_can_report_an_empty_json() {
+        JSONException exception = assertThrows(JSONException.class, () -> JsonFactReader.read(""));
+
+        assertTrue(exception.getMessage().contains("JSONObject text must begin"));
+    }
+
+    @Test
+    void it_can_report_an_unterminated_json() {
+        JSONException exception = assertThrows(JSONException.class, () -> JsonFactReader.read("{"));
+
+        assertTrue(exception.getMessage().contains("JSONObject text"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[]", "{\"fact\":1}", "{\"fact\" \"cat\"}", "{\"length\":1 \"fact\":\"cat\"}", "{\"fact\":\"cat"})
+    void it_can_report_an_invalid_json(String json) {
+        assertThrows(JSONException.class, () -> JsonFactReader.read(json));
+    }
+}
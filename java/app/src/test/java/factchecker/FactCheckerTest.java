@@ -1,14 +1,21 @@
 package factchecker;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import factchecker.AssessService.Assessment;
 import factchecker.AssessService.Assessor;
 import factchecker.AssessService.DefaultAssessor;
+import factchecker.CodecService.Codec;
+import factchecker.FetchService.BufferFetcher;
+import factchecker.FetchService.FactFetcher;
 import factchecker.FetchService.DefaultFetcher;
 import factchecker.FetchService.Fetcher;
 import factchecker.LoggerService.Logger;
+import factchecker.MetricsService.Metrics;
 import factchecker.NotifierService.Notifier;
 import factchecker.NotifierService.NullNotifier;
 import factchecker.fixtures.AssessorStub;
@@ -18,7 +25,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 class FactCheckerTest {
     @Test
@@ -263,8 +274,7 @@ class FactCheckerTest {
          */
         Fetcher fetcherStub = createFetcherStub();
         Assessor assessorStub = Mockito.mock(Assessor.class);
-        when(assessorStub.getScore(anyString())).thenReturn(3);
-        when(assessorStub.getOpinion(anyString())).thenReturn("unbelievable but true");
+        when(assessorStub.assess(anyString())).thenReturn(new Assessment(3, "unbelievable but true"));
 
         FactChecker checker = new FactChecker(fetcherStub, assessorStub);
         String fact = checker.randomFact();
@@ -286,16 +296,14 @@ class FactCheckerTest {
     void it_can_assess_a_fact_with_a_mock() {
         String defaultFetcherStubFact = "A simple fact without any target word.";
         Assessor assessorMock = Mockito.mock(Assessor.class);
-        when(assessorMock.getScore(defaultFetcherStubFact)).thenReturn(3);
-        when(assessorMock.getOpinion(defaultFetcherStubFact)).thenReturn("interesting");
+        when(assessorMock.assess(defaultFetcherStubFact)).thenReturn(new Assessment(3, "interesting"));
 
         FactChecker checker = new FactChecker(createFetcherStub(), assessorMock);
         String fact = checker.randomFact();
 
         assertTrue(fact.contains("interesting"));
-        verify(assessorMock).getOpinion(defaultFetcherStubFact);
         assertTrue(fact.contains("3 points"));
-        verify(assessorMock).getScore(defaultFetcherStubFact);
+        verify(assessorMock).assess(defaultFetcherStubFact);
     }
 
     /**
@@ -332,8 +340,7 @@ class FactCheckerTest {
          */
         Fetcher fetcherStub = createFetcherStub();
         Assessor assessorStub = Mockito.mock(Assessor.class);
-        when(assessorStub.getScore(anyString())).thenReturn(0);
-        when(assessorStub.getOpinion(anyString())).thenReturn("empty fact");
+        when(assessorStub.assess(anyString())).thenReturn(new Assessment(0, "empty fact"));
 
         FactChecker checker = new FactChecker(fetcherStub, assessorStub);
         String fact = checker.randomFact();
@@ -361,6 +368,169 @@ class FactCheckerTest {
         assertTrue(fact.contains("0 points"));
     }
 
+    @Test
+    void it_can_fetch_a_fact_asynchronously() {
+        FactChecker checker = new FactChecker(createFetcherStub(), createAssessorStub());
+        String fact = checker.randomFactAsync().join();
+
+        assertTrue(fact.contains("A simple fact"));
+        assertTrue(fact.contains("believable"));
+    }
+
+    @Test
+    void it_can_handle_a_request_error_asynchronously() {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(any())).thenReturn(CompletableFuture.failedFuture(new IOException("Request error")));
+        Logger loggerMock = Mockito.mock(Logger.class);
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        checker.setLogger(loggerMock);
+        String fact = checker.randomFactAsync().join();
+
+        assertTrue(fact.contains("Request error"));
+        verify(loggerMock).error(contains("Request error"));
+    }
+
+    @Test
+    void it_can_handle_an_unexpected_json_asynchronously() {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(any())).thenReturn(CompletableFuture.completedFuture("{\"test\":\"unexpected\"}"));
+        Notifier notifierSpy = Mockito.spy(new NullNotifier());
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        checker.setNotifier(notifierSpy);
+        String fact = checker.randomFactAsync().join();
+
+        assertTrue(fact.contains("fact field"));
+        verify(notifierSpy, times(3)).notify(anyString(), contains("{\"test\":\"unexpected\"}"));
+    }
+
+    @Test
+    void it_can_fetch_a_batch_of_facts() {
+        FactChecker checker = new FactChecker(createFetcherStub(), createAssessorStub());
+        List<FactResult> facts = checker.randomFacts(3);
+
+        assertEquals(3, facts.size());
+        assertTrue(facts.stream().allMatch(FactResult::isSuccessful));
+        assertTrue(facts.get(0).getFact().contains("believable"));
+    }
+
+    @Test
+    void it_can_report_failures_next_to_successes_in_a_batch() {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture("{\"fact\":\"cat\"}"))
+            .thenReturn(CompletableFuture.failedFuture(new IOException("Request error")))
+            .thenReturn(CompletableFuture.completedFuture("{\"fact\":\"cat\"}"));
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        checker.setConcurrency(1);
+        List<FactResult> facts = checker.randomFacts(3);
+
+        assertTrue(facts.get(0).isSuccessful());
+        assertFalse(facts.get(1).isSuccessful());
+        assertTrue(facts.get(1).getError().getMessage().contains("Request error"));
+        assertTrue(facts.get(2).isSuccessful());
+    }
+
+    @Test
+    void it_can_complete_a_batch_when_the_fetcher_throws() {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(any()))
+            .thenThrow(new IllegalStateException("Broken fetcher"))
+            .thenReturn(new CompletableFuture<String>().completeAsync(() -> "{\"fact\":\"cat\"}"));
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        checker.setConcurrency(1);
+        List<FactResult> facts = checker.randomFacts(2);
+
+        assertFalse(facts.get(0).isSuccessful());
+        assertTrue(facts.get(0).getError().getMessage().contains("Broken fetcher"));
+        assertTrue(facts.get(1).isSuccessful());
+    }
+
+    @Test
+    void it_can_fetch_a_fact_with_an_executor() {
+        ExecutorService executor = FactExecutors.virtualThreadPerTask();
+
+        FactChecker checker = new FactChecker(createFetcherStub(), createAssessorStub());
+        checker.setExecutor(executor);
+        String fact = checker.randomFactAsync().join();
+        executor.shutdown();
+
+        assertTrue(fact.contains("A simple fact"));
+    }
+
+    @Test
+    void it_can_process_an_expected_json_from_raw_bytes() throws IOException, InterruptedException {
+        BufferFetcher fetcherStub = Mockito.mock(BufferFetcher.class);
+        when(fetcherStub.fetchBuffer(any())).thenReturn(ByteBuffer.wrap("{\"fact\":\"cat\"}".getBytes(StandardCharsets.UTF_8)));
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        String fact = checker.randomFact();
+
+        assertTrue(fact.contains("cat"));
+        verify(fetcherStub, never()).fetch(any());
+    }
+
+    @Test
+    void it_can_log_an_unexpected_json_from_raw_bytes() throws IOException, InterruptedException {
+        BufferFetcher fetcherStub = Mockito.mock(BufferFetcher.class);
+        when(fetcherStub.fetchBuffer(any())).thenReturn(ByteBuffer.wrap("{\"test\":\"unexpected\"}".getBytes(StandardCharsets.UTF_8)));
+        Logger loggerMock = Mockito.mock(Logger.class);
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        checker.setLogger(loggerMock);
+        checker.randomFact();
+
+        verify(loggerMock).fatal(contains("{\"test\":\"unexpected\"}"));
+    }
+
+    @Test
+    void it_can_take_a_fact_which_is_already_extracted() throws IOException, InterruptedException {
+        FactFetcher fetcherStub = Mockito.mock(FactFetcher.class);
+        when(fetcherStub.pollFact(any())).thenReturn("prefetched fact").thenReturn(null);
+        when(fetcherStub.fetch(any())).thenReturn("{\"fact\":\"fetched fact\"}");
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+
+        assertTrue(checker.randomFact().contains("prefetched fact"));
+        assertTrue(checker.randomFact().contains("fetched fact"));
+        verify(fetcherStub, times(1)).fetch(any());
+    }
+
+    @Test
+    void it_can_process_a_fact_with_a_custom_codec() {
+        Codec codecStub = Mockito.mock(Codec.class);
+        when(codecStub.decode(any(CharSequence.class))).thenReturn("decoded fact");
+
+        FactChecker checker = new FactChecker(createFetcherStub(), createAssessorStub());
+        checker.setCodec(codecStub);
+        String fact = checker.randomFact();
+
+        assertTrue(fact.contains("decoded fact"));
+    }
+
+    @Test
+    void it_can_record_the_stage_latencies_and_the_errors() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any()))
+            .thenReturn("{\"fact\":\"cat\"}")
+            .thenThrow(new IOException("Request error"));
+        Metrics metrics = new Metrics();
+
+        FactChecker checker = new FactChecker(fetcherStub, createAssessorStub());
+        checker.setMetrics(metrics);
+        checker.randomFact();
+        checker.randomFact();
+
+        assertEquals(1, metrics.histogram("factchecker.fetch").getCount());
+        assertEquals(1, metrics.histogram("factchecker.parse").getCount());
+        assertEquals(1, metrics.histogram("factchecker.assess").getCount());
+        assertEquals(1, metrics.histogram("factchecker.fact").getCount());
+        assertEquals(1, metrics.counter("factchecker.errors.IOException").sum());
+    }
+
     private Fetcher createFetcherStub() {
         /*
          * A hardcoded Fetcher stub.
@@ -0,0 +1,32 @@
+package factchecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+class FactExecutorsTest {
+    @Test
+    void it_can_run_the_tasks() {
+        ExecutorService executor = FactExecutors.virtualThreadPerTask(2);
+
+        assertEquals("cat", CompletableFuture.supplyAsync(() -> "cat", executor).join());
+        executor.shutdown();
+    }
+
+    @Test
+    void it_can_bound_the_platform_threads_without_virtual_threads() {
+        ExecutorService executor = FactExecutors.virtualThreadPerTask(2);
+
+        if (!FactExecutors.isVirtualThreadSupported()) {
+            assertTrue(executor instanceof ThreadPoolExecutor);
+            assertEquals(2, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        }
+
+        executor.shutdown();
+    }
+}
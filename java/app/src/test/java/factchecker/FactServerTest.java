@@ -0,0 +1,90 @@
+package factchecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import factchecker.fixtures.AssessorStub;
+import factchecker.fixtures.FetcherStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class FactServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private ExecutorService executor;
+
+    private FactServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(2);
+        server = new FactServer(
+            new FactChecker(new FetcherStub(), new AssessorStub()),
+            new InetSocketAddress("127.0.0.1", 0),
+            executor
+        );
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void it_can_serve_a_fact() throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/fact");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("A simple fact"));
+        assertTrue(response.body().contains("believable"));
+    }
+
+    @Test
+    void it_can_serve_a_number_of_facts() throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/facts?n=3");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(3, response.body().strip().split("\n").length);
+    }
+
+    @Test
+    void it_can_reject_an_invalid_number_of_facts() throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/facts?n=many");
+
+        assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    void it_can_reject_an_unknown_path() throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/factory");
+
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    void it_can_serve_the_metrics() throws IOException, InterruptedException {
+        get("/fact");
+        HttpResponse<String> response = get("/metrics");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("factchecker.fetch count="));
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        URI uri = URI.create(String.format("http://127.0.0.1:%d%s", server.getAddress().getPort(), path));
+
+        return client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,157 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CachingFetcherTest {
+    private static final String URL = "https://catfact.ninja/fact";
+    private static final String FIRST = "{\"fact\":\"first\"}";
+    private static final String SECOND = "{\"fact\":\"second\"}";
+    private static final String THIRD = "{\"fact\":\"third\"}";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void it_can_fetch_from_the_upstream_until_the_pool_is_full() throws IOException, InterruptedException {
+        Fetcher fetcherStub = createFetcherStub();
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 2, Duration.ofMinutes(1), clock::get);
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(2, fetcher.getMisses());
+        assertEquals(0, fetcher.getHits());
+    }
+
+    @Test
+    void it_can_serve_a_fact_from_the_full_pool() throws IOException, InterruptedException {
+        Fetcher fetcherStub = createFetcherStub();
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 2, Duration.ofMinutes(1), clock::get);
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+        String fact = fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertTrue(List.of(FIRST, SECOND).contains(fact));
+        assertEquals(1, fetcher.getHits());
+    }
+
+    @Test
+    void it_can_evict_expired_facts() throws IOException, InterruptedException {
+        Fetcher fetcherStub = createFetcherStub();
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 2, Duration.ofSeconds(1), clock::get);
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        String fact = fetcher.fetch(URL);
+
+        assertEquals(THIRD, fact);
+        assertEquals(2, fetcher.getEvictions());
+    }
+
+    @Test
+    void it_does_not_cache_an_empty_response() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn("");
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 1, Duration.ofMinutes(1), clock::get);
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+    }
+
+    @Test
+    void it_does_not_cache_a_response_without_a_fact() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn("{\"message\":\"Too Many Attempts.\"}");
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 1, Duration.ofMinutes(1), clock::get);
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(0, fetcher.getHits());
+    }
+
+    @Test
+    void it_can_fill_the_pool_from_a_small_corpus() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn(FIRST);
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 3, Duration.ofMinutes(1), clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FIRST, fetcher.fetch(URL));
+        }
+
+        verify(fetcherStub, times(3)).fetch(URL);
+        assertEquals(2, fetcher.getHits());
+    }
+
+    @Test
+    void it_can_replace_the_least_recently_used_fact_on_a_refresh() throws IOException, InterruptedException {
+        Fetcher fetcherStub = createFetcherStub();
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 2, Duration.ofMinutes(1), clock::get);
+        fetcher.setRefreshInterval(2);
+        fetcher.fetch(URL);
+        clock.incrementAndGet();
+        fetcher.fetch(URL);
+        clock.incrementAndGet();
+        String picked = fetcher.fetch(URL);
+        clock.incrementAndGet();
+        String refreshed = fetcher.fetch(URL);
+
+        assertEquals(THIRD, refreshed);
+        assertEquals(1, fetcher.getEvictions());
+
+        /*
+         * The picked fact was used recently, so it stays, and the other one is replaced.
+         */
+        for (int i = 0; i < 8; i++) {
+            String fact = fetcher.fetch(URL);
+
+            if (i % 2 == 0) {
+                assertTrue(List.of(picked, THIRD).contains(fact));
+            }
+        }
+    }
+
+    @Test
+    void it_does_not_cache_the_urls_above_the_limit() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn(FIRST);
+
+        CachingFetcher fetcher = new CachingFetcher(fetcherStub, 1, Duration.ofMinutes(1), clock::get);
+
+        for (int i = 0; i < CachingFetcher.MAX_URLS; i++) {
+            fetcher.fetch(URL + "?page=" + i);
+        }
+
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(0, fetcher.getHits());
+    }
+
+    private Fetcher createFetcherStub() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn(FIRST, SECOND, THIRD);
+
+        return fetcherStub;
+    }
+}
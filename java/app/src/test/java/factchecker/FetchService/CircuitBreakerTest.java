@@ -0,0 +1,94 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CircuitBreakerTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void it_can_open_after_consecutive_failures() {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(1), clock::get);
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+        assertEquals(1, breaker.getOpenings());
+        assertEquals(1, breaker.getRejections());
+    }
+
+    @Test
+    void it_can_reset_the_failures_after_a_success() {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(1), clock::get);
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void it_can_let_a_single_trial_through_after_the_open_duration() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), clock::get);
+        breaker.onFailure(breaker.tryAcquire());
+        clock.set(Duration.ofSeconds(1).toNanos());
+        CircuitBreaker.Permit trial = breaker.tryAcquire();
+
+        assertTrue(trial.isTrial());
+        assertNull(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(trial);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void it_can_open_again_when_the_trial_fails() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), clock::get);
+        breaker.onFailure(breaker.tryAcquire());
+        clock.set(Duration.ofSeconds(1).toNanos());
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+        assertEquals(2, breaker.getOpenings());
+    }
+
+    @Test
+    void it_can_ignore_a_late_success_while_half_open() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), clock::get);
+        CircuitBreaker.Permit late = breaker.tryAcquire();
+        breaker.onFailure(breaker.tryAcquire());
+        clock.set(Duration.ofSeconds(1).toNanos());
+        CircuitBreaker.Permit trial = breaker.tryAcquire();
+
+        breaker.onSuccess(late);
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(trial);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void it_can_let_another_trial_through_after_a_release() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), clock::get);
+        breaker.onFailure(breaker.tryAcquire());
+        clock.set(Duration.ofSeconds(1).toNanos());
+        breaker.release(breaker.tryAcquire());
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire().isTrial());
+    }
+}
@@ -0,0 +1,36 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import factchecker.MetricsService.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+
+class DefaultFetcherTest {
+    @Test
+    void it_can_count_a_request_which_cannot_be_sent() {
+        Metrics metrics = new Metrics();
+
+        DefaultFetcher fetcher = new DefaultFetcher();
+        fetcher.setMetrics(metrics);
+
+        assertThrows(IllegalArgumentException.class, () -> fetcher.fetch("http://not a host/fact"));
+        assertEquals(1, metrics.counter("fetcher.errors").sum());
+    }
+
+    @Test
+    void it_can_count_a_request_which_cannot_be_sent_asynchronously() {
+        Metrics metrics = new Metrics();
+
+        DefaultFetcher fetcher = new DefaultFetcher();
+        fetcher.setMetrics(metrics);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fetcher.fetchAsync("http://not a host/fact").get());
+
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+        assertEquals(1, metrics.counter("fetcher.errors").sum());
+    }
+}
@@ -0,0 +1,118 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import factchecker.fixtures.FetcherStub;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.time.Duration;
+
+class PrefetchingFetcherTest {
+    private static final String URL = "https://catfact.ninja/fact";
+
+    @Test
+    void it_can_fill_the_buffer_in_the_background() throws InterruptedException {
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(new FetcherStub(), URL, 4, 2, Duration.ofMillis(10))) {
+            waitForBuffer(fetcher, 4);
+
+            assertEquals(4, fetcher.getBuffered());
+        }
+    }
+
+    @Test
+    void it_can_serve_a_fact_from_the_buffer() throws IOException, InterruptedException {
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(new FetcherStub(), URL, 4, 1, Duration.ofMillis(10))) {
+            waitForBuffer(fetcher, 4);
+            String fact = fetcher.fetch(URL);
+
+            assertTrue(fact.contains("A simple fact"));
+            assertEquals(1, fetcher.getHits());
+        }
+    }
+
+    @Test
+    void it_can_fetch_other_urls_directly() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn("{\"fact\":\"cat\"}");
+
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(fetcherStub, URL, 1, 1, Duration.ofMillis(10))) {
+            fetcher.fetch("https://example.com");
+
+            verify(fetcherStub).fetch("https://example.com");
+            assertEquals(0, fetcher.getHits());
+        }
+    }
+
+    @Test
+    void it_can_back_off_when_the_upstream_fails() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenThrow(new IOException("Request error"));
+
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(fetcherStub, URL, 1, 1, Duration.ofSeconds(10))) {
+            waitForErrors(fetcher, 1);
+
+            assertEquals(1, fetcher.getErrors());
+            assertEquals(0, fetcher.getBuffered());
+        }
+    }
+
+    @Test
+    void it_can_keep_refilling_after_an_unexpected_error() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any()))
+            .thenThrow(new IllegalStateException("Broken upstream"))
+            .thenReturn("{\"fact\":\"cat\"}");
+
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(fetcherStub, URL, 2, 1, Duration.ofMillis(10))) {
+            waitForBuffer(fetcher, 2);
+
+            assertEquals(1, fetcher.getErrors());
+            assertEquals(2, fetcher.getBuffered());
+        }
+    }
+
+    @Test
+    void it_does_not_buffer_a_response_without_a_fact() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(any())).thenReturn("{\"message\":\"Too Many Attempts.\"}");
+
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(fetcherStub, URL, 1, 1, Duration.ofSeconds(10))) {
+            waitForErrors(fetcher, 1);
+
+            assertEquals(1, fetcher.getErrors());
+            assertEquals(0, fetcher.getBuffered());
+        }
+    }
+
+    @Test
+    void it_can_hand_over_an_extracted_fact() throws InterruptedException {
+        try (PrefetchingFetcher fetcher = new PrefetchingFetcher(new FetcherStub(), URL, 2, 1, Duration.ofMillis(10))) {
+            waitForBuffer(fetcher, 2);
+
+            assertEquals("A simple fact without any target word.", fetcher.pollFact(URL));
+            assertNull(fetcher.pollFact("https://example.com"));
+            assertEquals(1, fetcher.getHits());
+        }
+    }
+
+    private void waitForErrors(PrefetchingFetcher fetcher, long errors) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+
+        while (fetcher.getErrors() < errors && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void waitForBuffer(PrefetchingFetcher fetcher, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+
+        while (fetcher.getBuffered() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
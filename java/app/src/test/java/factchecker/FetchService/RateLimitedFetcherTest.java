@@ -0,0 +1,103 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import factchecker.fixtures.FetcherStub;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+class RateLimitedFetcherTest {
+    private static final String URL = "https://catfact.ninja/fact";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void it_can_let_a_burst_through() throws IOException, InterruptedException {
+        RateLimitedFetcher fetcher = new RateLimitedFetcher(new FetcherStub(), 1, 3, RateLimitedFetcher.Policy.FAIL, Runnable::run, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            fetcher.fetch(URL);
+        }
+
+        assertEquals(3, fetcher.getPermits());
+        assertEquals(0, fetcher.getThrottled());
+    }
+
+    @Test
+    void it_can_fail_when_the_rate_is_exceeded() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        RateLimitedFetcher fetcher = new RateLimitedFetcher(fetcherStub, 1, 1, RateLimitedFetcher.Policy.FAIL, Runnable::run, clock::get);
+        fetcher.fetch(URL);
+
+        assertThrows(RateLimitExceededException.class, () -> fetcher.fetch(URL));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(1, fetcher.getRejections());
+    }
+
+    @Test
+    void it_can_wait_for_a_permit() throws IOException, InterruptedException {
+        RateLimitedFetcher fetcher = new RateLimitedFetcher(new FetcherStub(), 100, 1, RateLimitedFetcher.Policy.WAIT, Runnable::run);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            fetcher.fetch(URL);
+        }
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(15).toNanos());
+        assertEquals(2, fetcher.getThrottled());
+        assertTrue(fetcher.getWaitTime() > 0);
+    }
+
+    @Test
+    void it_can_wait_for_a_permit_asynchronously() throws ExecutionException, InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        LongAdder executions = new LongAdder();
+        RateLimitedFetcher fetcher = new RateLimitedFetcher(new FetcherStub(), 100, 1, RateLimitedFetcher.Policy.WAIT, command -> {
+            executions.increment();
+            executor.execute(command);
+        });
+        fetcher.fetchAsync(URL).get();
+        String fact = fetcher.fetchAsync(URL).get();
+        executor.shutdown();
+
+        assertTrue(fact.contains("A simple fact"));
+        assertEquals(1, fetcher.getThrottled());
+        assertEquals(1, executions.sum());
+    }
+
+    @Test
+    void it_can_fail_a_throttled_fetch_which_the_executor_does_not_take() {
+        RateLimitedFetcher fetcher = new RateLimitedFetcher(new FetcherStub(), 100, 1, RateLimitedFetcher.Policy.WAIT, command -> {
+            throw new IllegalStateException("Broken executor");
+        });
+        fetcher.fetchAsync(URL).join();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fetcher.fetchAsync(URL).get(5, TimeUnit.SECONDS));
+
+        assertEquals("Broken executor", e.getCause().getMessage());
+    }
+
+    @Test
+    void it_does_not_accept_a_missing_executor() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new RateLimitedFetcher(new FetcherStub(), 1, 1, RateLimitedFetcher.Policy.WAIT, null)
+        );
+    }
+}
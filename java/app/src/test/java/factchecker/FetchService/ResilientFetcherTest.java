@@ -0,0 +1,193 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class ResilientFetcherTest {
+    private static final String URL = "https://catfact.ninja/fact";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void it_can_retry_a_failed_fetch() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL))
+            .thenThrow(new IOException("Request error"))
+            .thenReturn("{\"fact\":\"cat\"}");
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(), new RetryBudget(0.2, 10));
+        String fact = fetcher.fetch(URL);
+
+        assertEquals("{\"fact\":\"cat\"}", fact);
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(1, fetcher.getRetryBudget().getRetries());
+    }
+
+    @Test
+    void it_can_stop_retrying_when_the_budget_is_exhausted() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL)).thenThrow(new IOException("Request error"));
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(10, Duration.ofSeconds(1)), new RetryBudget(0, 1));
+
+        assertThrows(IOException.class, () -> fetcher.fetch(URL));
+        assertThrows(IOException.class, () -> fetcher.fetch(URL));
+
+        verify(fetcherStub, times(3)).fetch(URL);
+        assertEquals(1, fetcher.getRetryBudget().getRetries());
+        assertEquals(2, fetcher.getRetryBudget().getExhaustions());
+    }
+
+    @Test
+    void it_can_fail_fast_when_the_circuit_is_open() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL)).thenThrow(new IOException("Request error"));
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(2, Duration.ofMinutes(1)), new RetryBudget(0, 10));
+
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, () -> fetcher.fetch(URL));
+        assertEquals("Request error", e.getCause().getMessage());
+        assertThrows(CircuitOpenException.class, () -> fetcher.fetch(URL));
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(2, fetcher.getCircuitBreaker().getRejections());
+    }
+
+    @Test
+    void it_does_not_count_other_errors_as_circuit_failures() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL)).thenThrow(new IllegalStateException("Broken fetcher"));
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(1, Duration.ofMinutes(1)), new RetryBudget());
+
+        assertThrows(IllegalStateException.class, () -> fetcher.fetch(URL));
+        assertEquals(CircuitBreaker.State.CLOSED, fetcher.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void it_can_report_a_thrown_exception_as_a_failure() throws InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(URL)).thenThrow(new IllegalStateException("Broken fetcher"));
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(1, Duration.ofMinutes(1)), new RetryBudget(0, 0));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fetcher.fetchAsync(URL).get());
+
+        assertTrue(e.getCause() instanceof IOException);
+        assertEquals(CircuitBreaker.State.OPEN, fetcher.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void it_can_retry_a_failed_fetch_asynchronously() throws ExecutionException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(URL))
+            .thenReturn(CompletableFuture.failedFuture(new IOException("Request error")))
+            .thenReturn(CompletableFuture.completedFuture("{\"fact\":\"cat\"}"));
+
+        LongAdder executions = new LongAdder();
+        ResilientFetcher fetcher = new ResilientFetcher(
+            fetcherStub,
+            new CircuitBreaker(),
+            new RetryBudget(),
+            3,
+            Duration.ofMillis(1),
+            command -> {
+                executions.increment();
+                new Thread(command).start();
+            }
+        );
+
+        assertEquals("{\"fact\":\"cat\"}", fetcher.fetchAsync(URL).get());
+        verify(fetcherStub, times(2)).fetchAsync(URL);
+        assertEquals(1, executions.sum());
+    }
+
+    @Test
+    void it_can_fail_a_retry_which_the_executor_does_not_take() throws InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(URL)).thenReturn(CompletableFuture.failedFuture(new IOException("Request error")));
+
+        ResilientFetcher fetcher = new ResilientFetcher(
+            fetcherStub,
+            new CircuitBreaker(),
+            new RetryBudget(),
+            3,
+            Duration.ofMillis(1),
+            command -> {
+                throw new IllegalStateException("Broken executor");
+            }
+        );
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fetcher.fetchAsync(URL).get(5, TimeUnit.SECONDS));
+
+        assertEquals("Request error", e.getCause().getMessage());
+    }
+
+    @Test
+    void it_does_not_accept_a_missing_executor() {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+
+        assertThrows(NullPointerException.class, () -> new ResilientFetcher(fetcherStub, null));
+    }
+
+    @Test
+    void it_does_not_retry_or_count_a_throttled_fetch() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL)).thenThrow(new RateLimitExceededException("Rate limit"));
+        when(fetcherStub.fetchAsync(URL)).thenReturn(CompletableFuture.failedFuture(new RateLimitExceededException("Rate limit")));
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(1, Duration.ofMinutes(1)), new RetryBudget(1, 10));
+
+        assertThrows(RateLimitExceededException.class, () -> fetcher.fetch(URL));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fetcher.fetchAsync(URL).get());
+
+        assertTrue(e.getCause() instanceof RateLimitExceededException);
+        verify(fetcherStub, times(1)).fetch(URL);
+        verify(fetcherStub, times(1)).fetchAsync(URL);
+        assertEquals(0, fetcher.getRetryBudget().getRetries());
+        assertEquals(CircuitBreaker.State.CLOSED, fetcher.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void it_can_hedge_a_slow_fetch() throws ExecutionException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(URL))
+            .thenReturn(new CompletableFuture<>())
+            .thenReturn(CompletableFuture.completedFuture("{\"fact\":\"cat\"}"));
+
+        ResilientFetcher fetcher = createFetcher(fetcherStub, new CircuitBreaker(), new RetryBudget());
+        fetcher.setHedging(Duration.ofMillis(10));
+
+        assertEquals("{\"fact\":\"cat\"}", fetcher.fetchAsync(URL).get());
+        assertEquals(1, fetcher.getHedges());
+        assertEquals(1, fetcher.getHedgeWins());
+    }
+
+    private ResilientFetcher createFetcher(Fetcher fetcherStub, CircuitBreaker breaker, RetryBudget budget) {
+        return new ResilientFetcher(fetcherStub, breaker, budget, 3, Duration.ofMillis(1), executor);
+    }
+}
@@ -0,0 +1,118 @@
+package factchecker.FetchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class SingleFlightFetcherTest {
+    private static final String URL = "https://catfact.ninja/fact";
+
+    @Test
+    void it_can_merge_concurrent_fetches_of_the_same_url() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL)).thenAnswer(invocation -> {
+            release.await();
+            return "{\"fact\":\"cat\"}";
+        });
+
+        SingleFlightFetcher fetcher = new SingleFlightFetcher(fetcherStub);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> facts = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                facts.add(executor.submit(() -> fetcher.fetch(URL)));
+            }
+
+            waitForCoalesced(fetcher, 3);
+            release.countDown();
+
+            for (Future<String> fact : facts) {
+                assertEquals("{\"fact\":\"cat\"}", fact.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(fetcherStub, times(1)).fetch(URL);
+        assertEquals(1, fetcher.getRequests());
+        assertEquals(3, fetcher.getCoalesced());
+    }
+
+    @Test
+    void it_can_fetch_again_after_the_response() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL)).thenReturn("{\"fact\":\"cat\"}");
+
+        SingleFlightFetcher fetcher = new SingleFlightFetcher(fetcherStub);
+        fetcher.fetch(URL);
+        fetcher.fetch(URL);
+
+        verify(fetcherStub, times(2)).fetch(URL);
+        assertEquals(0, fetcher.getCoalesced());
+    }
+
+    @Test
+    void it_can_share_an_asynchronous_failure() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(URL)).thenReturn(response);
+
+        SingleFlightFetcher fetcher = new SingleFlightFetcher(fetcherStub);
+        CompletableFuture<String> first = fetcher.fetchAsync(URL);
+        CompletableFuture<String> second = fetcher.fetchAsync(URL);
+        response.completeExceptionally(new IOException("Request error"));
+
+        assertThrows(ExecutionException.class, first::get);
+        assertThrows(ExecutionException.class, second::get);
+        verify(fetcherStub, times(1)).fetchAsync(URL);
+    }
+
+    @Test
+    void it_can_fetch_again_after_an_error() throws IOException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetch(URL))
+            .thenThrow(new StackOverflowError())
+            .thenReturn("{\"fact\":\"cat\"}");
+
+        SingleFlightFetcher fetcher = new SingleFlightFetcher(fetcherStub);
+
+        assertThrows(StackOverflowError.class, () -> fetcher.fetch(URL));
+        assertEquals("{\"fact\":\"cat\"}", fetcher.fetch(URL));
+    }
+
+    @Test
+    void it_can_fetch_again_after_a_thrown_asynchronous_failure() throws ExecutionException, InterruptedException {
+        Fetcher fetcherStub = Mockito.mock(Fetcher.class);
+        when(fetcherStub.fetchAsync(URL))
+            .thenThrow(new IllegalStateException("Broken fetcher"))
+            .thenReturn(CompletableFuture.completedFuture("{\"fact\":\"cat\"}"));
+
+        SingleFlightFetcher fetcher = new SingleFlightFetcher(fetcherStub);
+
+        assertThrows(ExecutionException.class, fetcher.fetchAsync(URL)::get);
+        assertEquals("{\"fact\":\"cat\"}", fetcher.fetchAsync(URL).get());
+    }
+
+    private void waitForCoalesced(SingleFlightFetcher fetcher, long coalesced) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+
+        while (fetcher.getCoalesced() < coalesced && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
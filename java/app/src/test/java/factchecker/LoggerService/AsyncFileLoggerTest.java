@@ -0,0 +1,119 @@
+package factchecker.LoggerService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+class AsyncFileLoggerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void it_can_write_the_messages_in_order() throws IOException, InterruptedException {
+        Path file = directory.resolve("facts.log");
+
+        AsyncFileLogger logger = new AsyncFileLogger(file);
+        logger.error("first");
+        logger.fatal("second");
+        logger.close();
+
+        List<String> lines = Files.readAllLines(file);
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("[ERROR] first"));
+        assertTrue(lines.get(1).endsWith("[FATAL] second"));
+        assertEquals(2, logger.getWritten());
+    }
+
+    @Test
+    void it_can_filter_the_messages_by_level() throws IOException, InterruptedException {
+        Path file = directory.resolve("facts.log");
+
+        AsyncFileLogger logger = new AsyncFileLogger(file);
+        logger.setLevel(Logger.Level.ERROR);
+        logger.warn("skipped");
+        logger.error("kept");
+        logger.close();
+
+        List<String> lines = Files.readAllLines(file);
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("[ERROR] kept"));
+    }
+
+    @Test
+    void it_can_build_the_messages_of_the_enabled_levels_only() throws IOException, InterruptedException {
+        Path file = directory.resolve("facts.log");
+
+        AsyncFileLogger logger = new AsyncFileLogger(file);
+        logger.setLevel(Logger.Level.ERROR);
+        logger.debug(() -> {
+            throw new AssertionError("The message of a disabled level is built.");
+        });
+        logger.error("Cannot fetch a fact (attempt %s): %s", 2, "Request error");
+        logger.close();
+
+        List<String> lines = Files.readAllLines(file);
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("[ERROR] Cannot fetch a fact (attempt 2): Request error"));
+    }
+
+    @Test
+    void it_can_write_the_messages_of_many_threads() throws IOException, InterruptedException {
+        Path file = directory.resolve("facts.log");
+
+        AsyncFileLogger logger = new AsyncFileLogger(file, 16, AsyncFileLogger.Policy.BLOCK);
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    logger.error("message");
+                }
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        logger.close();
+
+        assertEquals(2000, Files.readAllLines(file).size());
+        assertEquals(0, logger.getDropped());
+    }
+
+    @Test
+    void it_can_drop_the_messages_when_the_file_cannot_be_written() throws IOException, InterruptedException {
+        Path file = Files.createFile(directory.resolve("facts.log"));
+
+        /*
+         * A read-only channel fails the first write of the writer.
+         */
+        AsyncFileLogger logger = new AsyncFileLogger(FileChannel.open(file, StandardOpenOption.READ), 2, AsyncFileLogger.Policy.BLOCK);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 100; i++) {
+                logger.error("message");
+            }
+        });
+        logger.close();
+
+        assertEquals(1, logger.getFailures());
+        assertEquals(100, logger.getDropped() + logger.getWritten());
+        assertTrue(logger.getDropped() > 0);
+    }
+}
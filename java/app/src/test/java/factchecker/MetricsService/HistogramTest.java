@@ -0,0 +1,94 @@
+package factchecker.MetricsService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class HistogramTest {
+    @Test
+    void it_can_keep_small_values_exact() {
+        Histogram histogram = new Histogram();
+
+        for (int value = 1; value <= 4; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(2, histogram.percentile(50));
+        assertEquals(4, histogram.percentile(100));
+        assertEquals(2.5, histogram.getMean());
+    }
+
+    @Test
+    void it_can_estimate_the_percentiles_within_the_bucket_error() {
+        Histogram histogram = new Histogram();
+
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertWithinError(50_000_000, histogram.percentile(50));
+        assertWithinError(99_000_000, histogram.percentile(99));
+        assertWithinError(99_900_000, histogram.percentile(99.9));
+        assertWithinError(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    void it_can_cover_the_whole_range_of_values() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.percentile(99.9));
+    }
+
+    @Test
+    void it_can_bound_every_value_by_its_bucket() {
+        for (long value = 0; value < 100_000; value += 7) {
+            int index = Histogram.index(value);
+
+            assertTrue(value <= Histogram.upperBound(index));
+            assertTrue(index == 0 || value > Histogram.upperBound(index - 1));
+        }
+    }
+
+    @Test
+    void it_can_sum_the_records_of_many_threads() throws InterruptedException {
+        Histogram histogram = new Histogram();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int value = 1; value <= 1000; value++) {
+                    histogram.record(value % 4);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8000, histogram.getCount());
+        assertEquals(3, histogram.getMax());
+        assertEquals(1, histogram.percentile(50));
+        assertEquals(1.5, histogram.getMean());
+    }
+
+    @Test
+    void it_can_size_the_stripes_by_a_power_of_two() {
+        assertEquals(1, Histogram.stripes(1));
+        assertEquals(4, Histogram.stripes(3));
+        assertEquals(8, Histogram.stripes(8));
+        assertEquals(16, Histogram.stripes(64));
+    }
+
+    private void assertWithinError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 8, String.format("%d is not close to %d", actual, expected));
+    }
+}
@@ -0,0 +1,54 @@
+package factchecker.MetricsService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+class MetricsTest {
+    @Test
+    void it_can_reuse_the_recorders_by_name() {
+        Metrics metrics = new Metrics();
+
+        assertSame(metrics.counter("errors"), metrics.counter("errors"));
+        assertSame(metrics.histogram("fetch"), metrics.histogram("fetch"));
+    }
+
+    @Test
+    void it_can_dump_the_metrics_as_text() {
+        Metrics metrics = new Metrics();
+        metrics.counter("factchecker.errors.IOException").add(2);
+        metrics.histogram("factchecker.fetch").record(1500);
+
+        String dump = metrics.dump();
+
+        assertTrue(dump.contains("factchecker.errors.IOException 2"));
+        assertTrue(dump.contains("factchecker.fetch count=1"));
+        assertTrue(dump.contains("max=1.5us"));
+    }
+
+    @Test
+    void it_can_expose_the_metrics_through_jmx() throws JMException {
+        Metrics metrics = new Metrics();
+        metrics.counter("fetcher.errors").increment();
+        metrics.histogram("fetcher.request").record(7);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("factchecker:type=Metrics,name=test");
+        metrics.registerMBean(name.toString());
+
+        try {
+            assertEquals(1L, server.getAttribute(name, "fetcher.errors"));
+            assertEquals(7L, server.getAttribute(name, "fetcher.request.p99"));
+            assertEquals(1L, server.getAttribute(name, "fetcher.request.count"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
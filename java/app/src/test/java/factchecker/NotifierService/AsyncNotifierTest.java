@@ -0,0 +1,162 @@
+package factchecker.NotifierService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class AsyncNotifierTest {
+    @Test
+    void it_can_deliver_the_notifications_in_the_background() throws InterruptedException {
+        List<String> messages = new CopyOnWriteArrayList<>();
+
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> messages.add(service + ": " + message));
+        notifier.notify("email", "first");
+        notifier.notify("slack", "second");
+        notifier.close();
+
+        assertEquals(2, messages.size());
+        assertTrue(messages.contains("email: first"));
+        assertTrue(messages.contains("slack: second"));
+        assertEquals(2, notifier.getDelivered());
+    }
+
+    @Test
+    void it_can_isolate_a_slow_service() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> {
+            if (service.equals("email")) {
+                awaitQuietly(release);
+            } else {
+                delivered.countDown();
+            }
+        });
+        notifier.notify("email", "slow");
+        notifier.notify("slack", "fast");
+
+        assertTrue(delivered.await(1, TimeUnit.SECONDS));
+
+        release.countDown();
+        notifier.close();
+    }
+
+    @Test
+    void it_can_drop_a_notification_when_the_queue_is_full() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> {
+            started.countDown();
+            awaitQuietly(release);
+        }, 1, 1, Duration.ofSeconds(5));
+        notifier.notify("email", "first");
+        started.await(1, TimeUnit.SECONDS);
+        notifier.notify("email", "second");
+        notifier.notify("email", "third");
+        release.countDown();
+        notifier.close();
+
+        assertEquals(1, notifier.getDropped());
+        assertEquals(2, notifier.getDelivered());
+    }
+
+    @Test
+    void it_can_interrupt_a_delivery_after_the_timeout() throws InterruptedException {
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("The delivery is interrupted.");
+            }
+        }, 1, 1, Duration.ofMillis(50));
+        notifier.notify("email", "slow");
+        waitForFailed(notifier, 1);
+        notifier.close();
+
+        assertEquals(1, notifier.getTimeouts());
+        assertEquals(1, notifier.getFailed());
+    }
+
+    @Test
+    void it_can_drop_the_notifications_of_the_services_above_the_limit() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> messages.add(service + ": " + message));
+        notifier.setMaxServices(1);
+        notifier.notify("email", "first");
+        notifier.notify("slack", "second");
+        notifier.notify("email", "third");
+        notifier.close();
+
+        assertEquals(List.of("email: first", "email: third"), messages);
+        assertEquals(1, notifier.getDropped());
+    }
+
+    @Test
+    void it_can_drop_the_notifications_after_the_close() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> messages.add(service + ": " + message));
+        notifier.close();
+        notifier.notify("email", "late");
+
+        assertTrue(messages.isEmpty());
+        assertEquals(1, notifier.getDropped());
+    }
+
+    @Test
+    void it_can_close_within_a_single_timeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(4);
+
+        AsyncNotifier notifier = new AsyncNotifier((service, message) -> {
+            started.countDown();
+
+            /* The delivery ignores the interruption of the watchdog, so only the close stops waiting for it. */
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // keeps waiting
+                }
+            }
+        }, 1, 1, Duration.ofMillis(300));
+
+        for (String service : List.of("email", "slack", "sms", "pager")) {
+            notifier.notify(service, "slow");
+        }
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        notifier.close();
+        long elapsed = System.nanoTime() - start;
+        release.countDown();
+
+        assertTrue(elapsed < Duration.ofMillis(900).toNanos(), String.format("The close took %d ms.", elapsed / 1_000_000));
+    }
+
+    private void waitForFailed(AsyncNotifier notifier, long failed) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+
+        while (notifier.getFailed() < failed && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package factchecker.NotifierService;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class DeduplicatingNotifierTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void it_can_send_the_first_notification_at_once() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 8, clock::get);
+        notifier.notify("email", "the fact field doesn't exist");
+        notifier.notify("email", "the fact field doesn't exist");
+        notifier.notify("slack", "the fact field doesn't exist");
+
+        verify(notifierMock, times(1)).notify("email", "the fact field doesn't exist");
+        verify(notifierMock, times(1)).notify("slack", "the fact field doesn't exist");
+        assertEquals(1, notifier.getSuppressed());
+    }
+
+    @Test
+    void it_can_summarize_the_window() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 8, clock::get);
+        notifier.notify("email", "the fact field doesn't exist");
+        notifier.notify("email", "the fact field doesn't exist");
+        notifier.notify("email", "the fact field doesn't exist");
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        notifier.flush();
+
+        verify(notifierMock).notify("email", "the fact field doesn't exist (repeated 2 more times within 60 seconds)");
+        assertEquals(1, notifier.getSummaries());
+    }
+
+    @Test
+    void it_can_start_a_new_window() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 8, clock::get);
+        notifier.notify("email", "the fact field doesn't exist");
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        notifier.notify("email", "the fact field doesn't exist");
+
+        verify(notifierMock, times(2)).notify("email", "the fact field doesn't exist");
+        assertEquals(0, notifier.getSummaries());
+    }
+
+    @Test
+    void it_can_group_the_messages_by_a_custom_fingerprint() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 8, clock::get);
+        notifier.setFingerprint(message -> message.split("\\.")[0]);
+        notifier.notify("email", "the fact field doesn't exist. The original JSON is: {\"a\":1}.");
+        notifier.notify("email", "the fact field doesn't exist. The original JSON is: {\"b\":2}.");
+
+        verify(notifierMock, times(1)).notify(eq("email"), anyString());
+        assertEquals(1, notifier.getSuppressed());
+    }
+
+    @Test
+    void it_can_group_the_messages_by_their_first_sentence() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+        String format = "the fact field doesn't exist. The original JSON is: %s.";
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 8, clock::get);
+        notifier.notify("email", String.format(format, "{\"text\":\"first\"}"));
+        notifier.notify("email", String.format(format, "{\"text\":\"second\"}"));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        notifier.flush();
+
+        verify(notifierMock).notify("email", String.format(format, "{\"text\":\"first\"}"));
+        verify(notifierMock).notify(
+            "email",
+            String.format(format, "{\"text\":\"first\"}") + " (repeated 1 more time within 60 seconds)"
+        );
+        assertEquals(1, notifier.getSuppressed());
+    }
+
+    @Test
+    void it_can_count_a_summary_which_cannot_be_sent() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 8, clock::get);
+        notifier.notify("email", "first");
+        notifier.notify("email", "first");
+        notifier.notify("slack", "second");
+        notifier.notify("slack", "second");
+        doThrow(new IllegalStateException("The service is down.")).when(notifierMock).notify(eq("email"), anyString());
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        notifier.flush();
+
+        verify(notifierMock).notify("slack", "second (repeated 1 more time within 60 seconds)");
+        assertEquals(1, notifier.getFailures());
+        assertEquals(1, notifier.getSummaries());
+        assertThrows(IllegalStateException.class, () -> notifier.notify("email", "first"));
+    }
+
+    @Test
+    void it_can_account_for_every_notification_across_the_windows() throws InterruptedException {
+        List<String> messages = new CopyOnWriteArrayList<>();
+        Pattern summary = Pattern.compile("storm \\(repeated (\\d+) more times? within \\d+ seconds\\)");
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(
+            (service, message) -> messages.add(message),
+            Duration.ofMinutes(1),
+            8,
+            clock::get
+        );
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    notifier.notify("email", "storm");
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        /* The windows end while the notifications keep coming. */
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            clock.addAndGet(Duration.ofMinutes(1).toNanos());
+            notifier.flush();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        notifier.close();
+        long total = 0;
+
+        for (String message : messages) {
+            Matcher matcher = summary.matcher(message);
+            total += matcher.matches() ? Long.parseLong(matcher.group(1)) : 1;
+        }
+
+        assertEquals(40_000, total);
+    }
+
+    @Test
+    void it_can_send_the_notifications_as_is_when_the_table_is_full() {
+        Notifier notifierMock = Mockito.mock(Notifier.class);
+
+        DeduplicatingNotifier notifier = new DeduplicatingNotifier(notifierMock, Duration.ofMinutes(1), 1, clock::get);
+        notifier.notify("email", "first");
+        notifier.notify("email", "second");
+        notifier.notify("email", "second");
+
+        verify(notifierMock, times(2)).notify("email", "second");
+        assertEquals(2, notifier.getUntracked());
+    }
+}